@@ -0,0 +1,146 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.SonicTaskManagerApplication;
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The application on a throwaway SQLite file, for the benchmarks that go through the database.
+ *
+ * Starts the full app on a free port without the nightly jobs, then loads the synthetic
+ * tasks through JPA, so rows, triggers, FTS and stored scores are exactly what the app writes.
+ * Extra properties override application.properties, e.g. to turn a feature off for a baseline.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    // Rows per transaction while loading
+    private static final int LOAD_CHUNK = 5_000;
+
+    private final Path directory;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDatabase(Path directory, ConfigurableApplicationContext context) {
+        this.directory = directory;
+        this.context = context;
+    }
+
+    /**
+     * A started app with the sample data plus size synthetic open tasks
+     */
+    public static BenchmarkDatabase start(int size, String... properties) {
+        BenchmarkDatabase database = empty(properties);
+        database.load(SyntheticTasks.openTasks(size, LocalDateTime.now()));
+        return database;
+    }
+
+    /**
+     * A started app with only the sample data DataInitializer seeds
+     */
+    public static BenchmarkDatabase empty(String... properties) {
+        Path directory;
+        try {
+            directory = Files.createTempDirectory("sonic-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> all = new ArrayList<>(List.of(
+            "spring.datasource.url=" + url(directory),
+            "server.port=0",
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "sonic.maintenance.subtask-counter-cron=-",
+            "sonic.workspace.workload-reconcile-cron=-"));
+        all.addAll(Arrays.asList(properties));
+
+        // As command-line arguments, so they win over application.properties
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SonicTaskManagerApplication.class)
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+        return new BenchmarkDatabase(directory, context);
+    }
+
+    /**
+     * JDBC URL of the database file, to open it outside the app
+     */
+    public String url() {
+        return url(directory);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Insert the tasks as new rows, parents first; ids are the app's, parent links follow them
+     * (created and updated times are the insert time, as for any new task)
+     */
+    public void load(List<Task> tasks) {
+        TransactionTemplate transactions = bean(TransactionTemplate.class);
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(bean(EntityManagerFactory.class));
+        Map<Long, Long> ids = new HashMap<>();
+
+        for (int from = 0; from < tasks.size(); from += LOAD_CHUNK) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + LOAD_CHUNK, tasks.size()));
+            transactions.executeWithoutResult(status -> {
+                for (Task task : chunk) {
+                    Task row = new Task(task);
+                    row.setId(null);
+                    row.setParentId(task.getParentId() != null ? ids.get(task.getParentId()) : null);
+                    row.setSubtaskCount(0);
+                    entityManager.persist(row);
+                    ids.put(task.getId(), row.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        transactions.executeWithoutResult(status -> bean(TaskRepository.class).repairSubtaskCounters());
+        context.publishEvent(TaskChangedEvent.all());
+    }
+
+    /**
+     * Stop the app but keep the file, to open it with other connection settings
+     */
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Stop the app and delete the file
+     */
+    @Override
+    public void close() {
+        stop();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String url(Path directory) {
+        return "jdbc:sqlite:" + directory.resolve("database.db");
+    }
+}
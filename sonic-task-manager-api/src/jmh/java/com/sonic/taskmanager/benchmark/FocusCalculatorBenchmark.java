@@ -0,0 +1,80 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.util.FocusCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Focus scoring: per task, as one encoded batch, and picking the top entries
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FocusCalculatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final FocusCalculator focusCalculator = new FocusCalculator();
+    private LocalDate today;
+    private List<Task> openTasks;
+    private List<Task> mainTasks;
+    private FocusCalculator.ScoringBatch batch;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        today = now.toLocalDate();
+        openTasks = SyntheticTasks.openTasks(size, now);
+        mainTasks = openTasks.stream().filter(task -> task.getParentId() == null).toList();
+        batch = FocusCalculator.encode(mainTasks);
+        scores = focusCalculator.scoreAll(batch, today);
+    }
+
+    @Benchmark
+    public void calculateFocusScore(Blackhole blackhole) {
+        for (Task task : mainTasks) {
+            blackhole.consume(focusCalculator.calculateFocusScore(task, today));
+        }
+    }
+
+    @Benchmark
+    public double[] scoreAllEncoded() {
+        return focusCalculator.scoreAll(batch, today);
+    }
+
+    @Benchmark
+    public double[] scoreAllWithEncoding() {
+        return focusCalculator.scoreAll(mainTasks, today);
+    }
+
+    @Benchmark
+    public int[] selectTopNextUp() {
+        return focusCalculator.selectTop(scores, 8, i -> true);
+    }
+
+    @Benchmark
+    public Task calculateFocusTask() {
+        return focusCalculator.calculateFocusTask(openTasks);
+    }
+}
@@ -0,0 +1,92 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.service.FocusRankingService;
+import com.sonic.taskmanager.util.FocusCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Focus task and next up stack for a LiveWorkspace build, on the same open tasks
+ *
+ * inMemory: score every active main task with FocusCalculator and select the top ones,
+ * as LiveWorkspace did with the rows it already holds.
+ * storedScores: FocusRankingService, one indexed LIMIT query per deadline bucket, twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FocusRankingBenchmark {
+
+    // Focus plus next up, one extra in case the focus task is among them
+    private static final int NEXT_UP_QUERY_LIMIT = 9;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private BenchmarkDatabase database;
+    private FocusRankingService focusRankingService;
+    private FocusCalculator focusCalculator;
+    private TransactionTemplate reads;
+    private List<Task> mainTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(size);
+        focusRankingService = database.bean(FocusRankingService.class);
+        focusCalculator = database.bean(FocusCalculator.class);
+        reads = new TransactionTemplate(database.bean(TransactionTemplate.class).getTransactionManager());
+        reads.setReadOnly(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        mainTasks = reads.execute(status -> database.bean(TaskRepository.class).findOpenScoringRows()).stream()
+                .map(TaskScoringRow::toTask)
+                .filter(task -> task.getParentId() == null)
+                .filter(task -> task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public int inMemory() {
+        LocalDateTime now = LocalDateTime.now();
+        double[] scores = focusCalculator.scoreAll(mainTasks, now.toLocalDate());
+        int[] focus = focusCalculator.selectTop(scores, 1, i -> true);
+        int[] nextUp = focusCalculator.selectTop(scores, NEXT_UP_QUERY_LIMIT,
+                i -> mainTasks.get(i).getType() != TaskType.REMINDER);
+        return focus.length + nextUp.length;
+    }
+
+    @Benchmark
+    public int storedScores() {
+        LocalDateTime now = LocalDateTime.now();
+        return reads.execute(status -> focusRankingService.findTopFocusTaskIds(1, false, now).size()
+                + focusRankingService.findTopFocusTaskIds(NEXT_UP_QUERY_LIMIT, true, now).size());
+    }
+}
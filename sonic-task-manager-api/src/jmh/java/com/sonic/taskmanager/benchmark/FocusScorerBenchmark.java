@@ -0,0 +1,239 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.CodedEnum;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.util.FocusCalculator;
+import com.sonic.taskmanager.util.FocusScoringModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Focus score per task, 100k main tasks scored against one date; the score is ns per task
+ *
+ * stringBased: the scorer before the scoring tables, on the string columns tasks had then:
+ * toLowerCase and a string switch per field, ChronoUnit for the days left.
+ * tablesWithEncoding: FocusCalculator.scoreAll on the tasks, encoding included.
+ * tablesEncoded: FocusCalculator.scoreAll on a batch encoded once.
+ * hardCodedWeights: the same codes scored with the weights compiled in as constants, as before
+ * the scoring preferences; modelWeights: FocusScoringModel.score with the default model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FocusScorerBenchmark {
+
+    private static final int TASKS = 100_000;
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    // The weights before FocusScoringModel: priority * 100, urgency * 80, complexity * 30, status bonuses
+    private static final double[] PRIORITY_POINTS = {1 * 100, 3 * 100, 2 * 100, 1 * 100};
+    private static final double[] COMPLEXITY_POINTS = {1 * 30, 2 * 30, 1.5 * 30, 1 * 30};
+    private static final double[] URGENCY_POINTS = new double[33];
+    private static final double[] FLAG_POINTS = new double[8];
+
+    static {
+        for (int index = 0; index < URGENCY_POINTS.length; index++) {
+            int days = index - 1;
+            double weight;
+            if (days < 0) weight = 5;
+            else if (days == 0) weight = 4;
+            else if (days <= 3) weight = 3;
+            else if (days <= 7) weight = 2;
+            else if (days <= 30) weight = 1;
+            else weight = 0.5;
+            URGENCY_POINTS[index] = weight * 80;
+        }
+        for (int flags = 0; flags < FLAG_POINTS.length; flags++) {
+            double points = 0;
+            if ((flags & FocusScoringModel.STARTED) != 0) points += 50;
+            if ((flags & FocusScoringModel.PROGRESSED) != 0) points += 20;
+            if ((flags & FocusScoringModel.SNOOZED) != 0) points -= 100;
+            FLAG_POINTS[flags] = points;
+        }
+    }
+
+    private final FocusCalculator focusCalculator = new FocusCalculator();
+    private final FocusScoringModel model = FocusScoringModel.defaults();
+    private LocalDate today;
+    private List<Task> mainTasks;
+    private FocusCalculator.ScoringBatch batch;
+    private StringRow[] stringRows;
+    private long todayDay;
+    private int[] priorities;
+    private int[] complexities;
+    private long[] deadlineDays;
+    private int[] flags;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        today = now.toLocalDate();
+        mainTasks = SyntheticTasks.openTasks(TASKS * 2, now).stream()
+                .filter(task -> task.getParentId() == null)
+                .limit(TASKS)
+                .toList();
+        if (mainTasks.size() != TASKS) {
+            throw new IllegalStateException("Only " + mainTasks.size() + " main tasks generated");
+        }
+        batch = FocusCalculator.encode(mainTasks);
+        stringRows = mainTasks.stream().map(StringRow::of).toArray(StringRow[]::new);
+
+        todayDay = today.toEpochDay();
+        priorities = new int[TASKS];
+        complexities = new int[TASKS];
+        deadlineDays = new long[TASKS];
+        flags = new int[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            Task task = mainTasks.get(i);
+            priorities[i] = code(task.getPriority());
+            complexities[i] = code(task.getComplexity());
+            deadlineDays[i] = task.getDeadline() != null ? task.getDeadline().toEpochDay() : NO_DEADLINE;
+            flags[i] = (task.getStatus() == TaskStatus.DOING ? FocusScoringModel.STARTED : 0)
+                    | (task.getProgressCurrent() != null && task.getProgressCurrent() > 0 ? FocusScoringModel.PROGRESSED : 0)
+                    | (task.getSnoozedUntil() != null ? FocusScoringModel.SNOOZED : 0);
+        }
+        // Same scores either way, or the comparison means nothing
+        for (int i = 0; i < TASKS; i++) {
+            if (hardCodedScore(i) != model.score(priorities[i], complexities[i], deadlineDays[i], flags[i], todayDay)) {
+                throw new IllegalStateException("Default model and hard-coded weights disagree on task " + i);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public double[] stringBased() {
+        double[] scores = new double[stringRows.length];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = stringRows[i].score(today);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public double[] tablesWithEncoding() {
+        return focusCalculator.scoreAll(mainTasks, today);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public double[] tablesEncoded() {
+        return focusCalculator.scoreAll(batch, today);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public double[] hardCodedWeights() {
+        double[] scores = new double[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            scores[i] = hardCodedScore(i);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public double[] modelWeights() {
+        double[] scores = new double[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            scores[i] = model.score(priorities[i], complexities[i], deadlineDays[i], flags[i], todayDay);
+        }
+        return scores;
+    }
+
+    private double hardCodedScore(int i) {
+        double urgency = 0;
+        if (deadlineDays[i] != NO_DEADLINE) {
+            long days = deadlineDays[i] - todayDay;
+            urgency = URGENCY_POINTS[(int) Math.max(-1, Math.min(31, days)) + 1];
+        }
+        return PRIORITY_POINTS[priorities[i]] + urgency + COMPLEXITY_POINTS[complexities[i]] + FLAG_POINTS[flags[i]];
+    }
+
+    private static int code(CodedEnum value) {
+        return value != null ? value.getCode() : 0;
+    }
+
+    /**
+     * A task's scoring columns as they were stored before the integer enum codes
+     */
+    private record StringRow(String priority, String complexity, String status, LocalDate deadline,
+                             Integer progressCurrent, LocalDateTime snoozedUntil) {
+
+        static StringRow of(Task task) {
+            return new StringRow(
+                    task.getPriority() != null ? task.getPriority().getValue() : null,
+                    task.getComplexity() != null ? task.getComplexity().getValue() : null,
+                    task.getStatus() != null ? task.getStatus().getValue() : null,
+                    task.getDeadline(), task.getProgressCurrent(), task.getSnoozedUntil());
+        }
+
+        double score(LocalDate today) {
+            double score = 0;
+            score += priorityWeight() * 100;
+            score += urgencyWeight(today) * 80;
+            score += complexityWeight() * 30;
+            if ("doing".equals(status)) {
+                score += 50;
+            }
+            if (progressCurrent != null && progressCurrent > 0) {
+                score += 20;
+            }
+            if (snoozedUntil != null) {
+                score -= 100;
+            }
+            return score;
+        }
+
+        private double priorityWeight() {
+            if (priority == null) return 1;
+            return switch (priority.toLowerCase()) {
+                case "high" -> 3;
+                case "medium" -> 2;
+                default -> 1;
+            };
+        }
+
+        private double urgencyWeight(LocalDate today) {
+            if (deadline == null) {
+                return 0;
+            }
+            long daysUntilDeadline = ChronoUnit.DAYS.between(today, deadline);
+            if (daysUntilDeadline < 0) return 5;
+            if (daysUntilDeadline == 0) return 4;
+            if (daysUntilDeadline <= 3) return 3;
+            if (daysUntilDeadline <= 7) return 2;
+            if (daysUntilDeadline <= 30) return 1;
+            return 0.5;
+        }
+
+        private double complexityWeight() {
+            if (complexity == null) return 1;
+            return switch (complexity.toLowerCase()) {
+                case "easy" -> 2;
+                case "medium" -> 1.5;
+                default -> 1;
+            };
+        }
+    }
+}
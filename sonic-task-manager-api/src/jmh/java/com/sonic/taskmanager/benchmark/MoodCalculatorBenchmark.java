@@ -0,0 +1,86 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.service.MoodCalculatorService;
+import com.sonic.taskmanager.service.MoodCalculatorService.StressCounts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily mood over the active tasks
+ *
+ * recount: walk every active task for the stress counts on each call, as the workspace did before.
+ * counters: the running StressCounts WorkloadCounters keeps, what the workspace reads now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MoodCalculatorBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private final MoodCalculatorService moodCalculatorService = new MoodCalculatorService();
+    private List<Task> activeTasks;
+    private LocalDate today;
+    private StressCounts counters;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        today = now.toLocalDate();
+        activeTasks = SyntheticTasks.openTasks(size, now).stream()
+                .filter(task -> task.getStatus() != TaskStatus.DONE)
+                .filter(task -> task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now))
+                .toList();
+        counters = count(activeTasks, today);
+    }
+
+    @Benchmark
+    public String recount() {
+        return moodCalculatorService.calculateDailyMood(count(activeTasks, today));
+    }
+
+    @Benchmark
+    public String counters() {
+        return moodCalculatorService.calculateDailyMood(counters);
+    }
+
+    // Same rules as WorkloadCounters: every active task counts, only main tasks add stress
+    private static StressCounts count(List<Task> tasks, LocalDate today) {
+        LocalDate urgentBy = today.plusDays(1);
+        int mainTasks = 0, overdue = 0, urgent = 0, highPriority = 0, hard = 0;
+        for (Task task : tasks) {
+            if (task.getParentId() != null) {
+                continue;
+            }
+            mainTasks++;
+            LocalDate deadline = task.getDeadline();
+            if (deadline != null && deadline.isBefore(today)) overdue++;
+            if (deadline != null && !deadline.isAfter(urgentBy)) urgent++;
+            if (task.getPriority() == TaskPriority.HIGH) highPriority++;
+            if (task.getComplexity() == TaskComplexity.HARD) hard++;
+        }
+        return new StressCounts(tasks.size(), mainTasks, overdue, urgent, highPriority, hard);
+    }
+}
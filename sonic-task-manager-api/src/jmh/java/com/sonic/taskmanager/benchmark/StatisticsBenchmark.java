@@ -0,0 +1,116 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskStatsDto;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Studio dashboard statistics: the separate queries getTaskStatistics used to run against the one aggregate
+ *
+ * separateQueries: the nine countMainTasksBy* calls plus the overdue and urgent task lists,
+ * loaded as entities only to read their size.
+ * aggregate: TaskRepository.aggregateTaskStatistics, one pass with conditional sums.
+ * cached: TaskService.getTaskStatistics between writes, served from the snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StatisticsBenchmark {
+
+    // The old findOverdueTasks and findUrgentTasks
+    private static final String OVERDUE =
+            "SELECT t FROM Task t WHERE t.deadline IS NOT NULL AND t.deadline < :today AND t.status <> :done";
+    private static final String URGENT =
+            "SELECT t FROM Task t WHERE t.deadline IS NOT NULL AND t.deadline BETWEEN :today AND :urgentDate " +
+            "AND t.status <> :done";
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private BenchmarkDatabase database;
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+    private EntityManager entityManager;
+    private TransactionTemplate reads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(size);
+        taskRepository = database.bean(TaskRepository.class);
+        taskService = database.bean(TaskService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(database.bean(EntityManagerFactory.class));
+        reads = new TransactionTemplate(database.bean(TransactionTemplate.class).getTransactionManager());
+        reads.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public TaskStatsDto separateQueries() {
+        LocalDate today = LocalDate.now();
+        return reads.execute(status -> {
+            TaskStatsDto stats = new TaskStatsDto();
+            stats.setTotalTasks(taskRepository.countMainTasksByStatus(TaskStatus.TODO)
+                    + taskRepository.countMainTasksByStatus(TaskStatus.DOING));
+            stats.setCompletedTasks(taskRepository.countMainTasksByStatus(TaskStatus.DONE));
+            stats.setOverdueTasks(entityManager.createQuery(OVERDUE, Task.class)
+                    .setParameter("today", today)
+                    .setParameter("done", TaskStatus.DONE)
+                    .getResultList().size());
+            stats.setUrgentTasks(entityManager.createQuery(URGENT, Task.class)
+                    .setParameter("today", today)
+                    .setParameter("urgentDate", today.plusDays(3))
+                    .setParameter("done", TaskStatus.DONE)
+                    .getResultList().size());
+            stats.setHighPriorityTasks(taskRepository.countMainTasksByPriority(TaskPriority.HIGH));
+            stats.setMediumPriorityTasks(taskRepository.countMainTasksByPriority(TaskPriority.MEDIUM));
+            stats.setLowPriorityTasks(taskRepository.countMainTasksByPriority(TaskPriority.LOW));
+            stats.setDeadlineTasks(taskRepository.countMainTasksByType(TaskType.DEADLINE));
+            stats.setHabitTasks(taskRepository.countMainTasksByType(TaskType.HABIT));
+            stats.setReminderTasks(taskRepository.countMainTasksByType(TaskType.REMINDER));
+            stats.setEventTasks(taskRepository.countMainTasksByType(TaskType.EVENT));
+            return stats;
+        });
+    }
+
+    @Benchmark
+    public TaskStatsDto aggregate() {
+        LocalDate today = LocalDate.now();
+        return reads.execute(status -> taskRepository.aggregateTaskStatistics(today, today.plusDays(3)));
+    }
+
+    @Benchmark
+    public TaskStatsDto cached() {
+        return taskService.getTaskStatistics();
+    }
+}
@@ -0,0 +1,162 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workspace-style reads while a writer keeps updating tasks, on the same database file
+ *
+ * rollback: what Spring Boot auto-configured before, one Hikari pool of ten and the default
+ * rollback journal, so a write locks readers out for its commit.
+ * wal: DataSourceConfig as the app runs it, WAL with one writer connection and a reader pool,
+ * readOnly transactions routed to the readers.
+ * The read score is the one to compare; the write score shows the writer is not starved either.
+ * Calls that fail with SQLITE_BUSY still count in the scores and are also reported as readsBusy/writesBusy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StorageConcurrencyBenchmark {
+
+    private static final String OPEN_COUNT = "SELECT COUNT(*) FROM tasks WHERE status <> 3";
+    private static final String MAIN_PAGE =
+            "SELECT id, title, priority, deadline FROM tasks WHERE parent_id IS NULL AND status = 1 " +
+            "ORDER BY deadline LIMIT 50";
+    private static final String TOUCH = "UPDATE tasks SET priority = ?, updated_at = ? WHERE id = ?";
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"rollback", "wal"})
+    private String storage;
+
+    private BenchmarkDatabase database;
+    private DataSource dataSource;
+    private DataSourceConfig dataSourceConfig;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate reads;
+    private TransactionTemplate writes;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        database = BenchmarkDatabase.start(size);
+        String url = database.url();
+        database.stop();
+
+        if (storage.equals("rollback")) {
+            try (Connection connection = DriverManager.getConnection(url);
+                 Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=DELETE");
+            }
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(url);
+            dataSource = new HikariDataSource(config);
+        } else {
+            dataSourceConfig = new DataSourceConfig();
+            ReflectionTestUtils.setField(dataSourceConfig, "url", url);
+            ReflectionTestUtils.setField(dataSourceConfig, "driverClassName", "org.sqlite.JDBC");
+            ReflectionTestUtils.setField(dataSourceConfig, "busyTimeoutMs", 5000);
+            ReflectionTestUtils.setField(dataSourceConfig, "readerPoolSize", 4);
+            ReflectionTestUtils.setField(dataSourceConfig, "connectionTimeoutMs", 30000L);
+            dataSource = dataSourceConfig.dataSource();
+        }
+
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        writes = new TransactionTemplate(transactionManager);
+        ids = jdbc.queryForList("SELECT id FROM tasks WHERE status <> 3", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSourceConfig != null) {
+            dataSourceConfig.closePools();
+        } else {
+            ((HikariDataSource) dataSource).close();
+        }
+        database.close();
+    }
+
+    /**
+     * Calls that failed with SQLITE_BUSY, reported next to the scores; the app would have answered them with a 500
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Busy {
+        public long readsBusy;
+        public long writesBusy;
+    }
+
+    @Benchmark
+    @Group("readsDuringWrites")
+    @GroupThreads(4)
+    public int read(Busy busy) {
+        try {
+            return reads.execute(status -> jdbc.queryForObject(OPEN_COUNT, Integer.class) + jdbc.queryForList(MAIN_PAGE).size());
+        } catch (DataAccessException e) {
+            busy.readsBusy++;
+            return requireBusy(e);
+        }
+    }
+
+    @Benchmark
+    @Group("readsDuringWrites")
+    @GroupThreads(1)
+    public int write(Busy busy) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long id = ids.get(random.nextInt(ids.size()));
+        try {
+            return writes.execute(status -> jdbc.update(TOUCH, 1 + random.nextInt(3), System.currentTimeMillis(), id));
+        } catch (DataAccessException e) {
+            busy.writesBusy++;
+            return requireBusy(e);
+        }
+    }
+
+    private static int requireBusy(DataAccessException e) {
+        if (e.getMostSpecificCause() instanceof SQLiteException sqlite
+                && sqlite.getResultCode().code == SQLiteErrorCode.SQLITE_BUSY.code) {
+            return 0;
+        }
+        throw e;
+    }
+}
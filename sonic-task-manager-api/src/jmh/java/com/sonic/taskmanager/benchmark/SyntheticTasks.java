@@ -0,0 +1,158 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.util.FocusCalculator;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Seeded synthetic open tasks for the benchmarks, so every run and every commit sees the same data.
+ *
+ * Shares are rough figures from a long-lived personal list:
+ * types 55% deadline, 15% each habit, reminder and event;
+ * priority 20% high, 50% medium, 25% low, 5% unset; complexity 35% easy, 40% medium, 20% hard, 5% unset;
+ * a fifth started, 5% snoozed, a quarter subtasks; six in ten deadline and event tasks have a deadline,
+ * 10% of those overdue, 20% within 3 days, 40% within a month and the rest up to four months out.
+ */
+public final class SyntheticTasks {
+
+    public static final long SEED = 20240917L;
+
+    private static final String[] TAGS = {null, null, "work", "home", "work,urgent", "health", "learning"};
+
+    private SyntheticTasks() {
+    }
+
+    /**
+     * Open tasks with ids 1..size in id order, full rows as the database would return them
+     */
+    public static List<Task> openTasks(int size, LocalDateTime now) {
+        Random random = new Random(SEED);
+        LocalDate today = now.toLocalDate();
+        List<Task> tasks = new ArrayList<>(size);
+        List<Task> mainTasks = new ArrayList<>();
+
+        for (int i = 1; i <= size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Synthetic task " + i);
+            if (random.nextBoolean()) {
+                task.setDescription("Notes for synthetic task " + i + ": what is left to do, links and whom to ask when stuck.");
+            }
+            task.setType(pick(random, TaskType.DEADLINE, 55, TaskType.HABIT, 15, TaskType.REMINDER, 15, TaskType.EVENT, 15));
+            task.setPriority(pick(random, TaskPriority.HIGH, 20, TaskPriority.MEDIUM, 50, TaskPriority.LOW, 25, null, 5));
+            task.setComplexity(pick(random, TaskComplexity.EASY, 35, TaskComplexity.MEDIUM, 40, TaskComplexity.HARD, 20, null, 5));
+            task.setStatus(random.nextInt(100) < 20 ? TaskStatus.DOING : TaskStatus.TODO);
+
+            int progressTotal = 1 + random.nextInt(10);
+            task.setProgressTotal(progressTotal);
+            task.setProgressCurrent(random.nextInt(100) < 30 ? random.nextInt(progressTotal) : 0);
+
+            boolean datedType = task.getType() == TaskType.DEADLINE || task.getType() == TaskType.EVENT;
+            if (datedType && random.nextInt(100) < 60) {
+                task.setDeadline(today.plusDays(deadlineOffset(random)));
+            }
+            if (random.nextInt(100) < 5) {
+                task.setSnoozedUntil(now.plusDays(1 + random.nextInt(3)));
+            }
+            task.setTags(TAGS[random.nextInt(TAGS.length)]);
+
+            LocalDateTime updatedAt = now.minusMinutes(random.nextInt(30 * 24 * 60));
+            task.setUpdatedAt(updatedAt);
+            task.setCreatedAt(updatedAt.minusDays(random.nextInt(60)));
+
+            if (!mainTasks.isEmpty() && random.nextInt(100) < 25) {
+                Task parent = mainTasks.get(random.nextInt(mainTasks.size()));
+                task.setParentId(parent.getId());
+                parent.setSubtaskCount(parent.getSubtaskCount() + 1);
+            } else {
+                mainTasks.add(task);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Set the calculated fields the API would, relative to today
+     */
+    public static List<Task> enrich(List<Task> tasks, FocusCalculator focusCalculator, LocalDate today) {
+        for (Task task : tasks) {
+            task.setDaysUntilDeadline(focusCalculator.calculateDaysUntilDeadline(task, today));
+            task.setUrgencyLevel(focusCalculator.calculateUrgencyLevel(task, today));
+        }
+        return tasks;
+    }
+
+    /**
+     * In-memory TaskRepository over the given rows, answering only the queries the workspace makes
+     * Returns copies, like a fresh load would
+     */
+    public static TaskRepository repository(List<Task> tasks) {
+        Map<Long, Task> byId = new HashMap<>();
+        Map<Long, List<Task>> byParent = new HashMap<>();
+        List<TaskScoringRow> scoringRows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            byId.put(task.getId(), task);
+            if (task.getParentId() != null) {
+                byParent.computeIfAbsent(task.getParentId(), key -> new ArrayList<>()).add(task);
+            }
+            scoringRows.add(new TaskScoringRow(task.getId(), task.getParentId(), task.getType(), task.getPriority(),
+                    task.getComplexity(), task.getStatus(), task.getDeadline(), task.getSnoozedUntil(),
+                    task.getProgressCurrent(), task.getUpdatedAt()));
+        }
+
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+                new Class<?>[] {TaskRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findOpenScoringRows" -> scoringRows;
+                    case "findByIdIn" -> ((Collection<?>) args[0]).stream()
+                            .map(byId::get)
+                            .filter(Objects::nonNull)
+                            .map(Task::new)
+                            .toList();
+                    case "findByParentIdIn" -> ((Collection<?>) args[0]).stream()
+                            .flatMap(id -> byParent.getOrDefault(id, List.of()).stream())
+                            .map(Task::new)
+                            .toList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "SyntheticTasks repository (" + tasks.size() + " tasks)";
+                    default -> throw new UnsupportedOperationException(method.getName() + " is not stubbed");
+                });
+    }
+
+    private static long deadlineOffset(Random random) {
+        int bucket = random.nextInt(100);
+        if (bucket < 10) return -1 - random.nextInt(14);
+        if (bucket < 30) return random.nextInt(4);
+        if (bucket < 70) return 4 + random.nextInt(27);
+        return 31 + random.nextInt(90);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T pick(Random random, Object... choicesAndWeights) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < choicesAndWeights.length; i += 2) {
+            roll -= (Integer) choicesAndWeights[i + 1];
+            if (roll < 0) {
+                return (T) choicesAndWeights[i];
+            }
+        }
+        return (T) choicesAndWeights[choicesAndWeights.length - 2];
+    }
+}
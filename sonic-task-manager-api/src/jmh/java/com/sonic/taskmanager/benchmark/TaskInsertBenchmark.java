@@ -0,0 +1,98 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.request.CreateTaskRequest;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10k subtask inserts through TaskService.createSubtasks, in the 500-row calls the bulk endpoint allows;
+ * the score is rows per second
+ *
+ * batchSize 1: every INSERT is its own statement round trip, as with the IDENTITY ids before.
+ * batchSize 50: the configured JDBC batching over pooled ids.
+ * IDENTITY itself can't be switched on here, the id generator is fixed on the entity; with batching
+ * off, the pooled ids only add one id_sequences update per 50 rows over it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// A call takes over a second, so longer iterations than the other benchmarks
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int ROWS_PER_CALL = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private BenchmarkDatabase database;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TransactionTemplate transactions;
+    private Long parentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.empty("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        taskService = database.bean(TaskService.class);
+        taskRepository = database.bean(TaskRepository.class);
+        transactions = database.bean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    // A fresh parent per call, so every run inserts into a table of the same size
+    @Setup(Level.Invocation)
+    public void createParent() {
+        Task parent = new Task();
+        parent.setTitle("Insert benchmark parent");
+        parentId = transactions.execute(status -> taskRepository.save(parent).getId());
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteParent() {
+        transactions.executeWithoutResult(status -> taskRepository.deleteSubtrees(List.of(parentId)));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int createSubtasks() {
+        int created = 0;
+        for (int from = 0; from < ROWS; from += ROWS_PER_CALL) {
+            List<CreateTaskRequest> requests = new ArrayList<>(ROWS_PER_CALL);
+            for (int i = from; i < from + ROWS_PER_CALL; i++) {
+                CreateTaskRequest request = new CreateTaskRequest();
+                request.setTitle("Subtask " + i);
+                requests.add(request);
+            }
+            created += taskService.createSubtasks(parentId, requests).size();
+        }
+        return created;
+    }
+}
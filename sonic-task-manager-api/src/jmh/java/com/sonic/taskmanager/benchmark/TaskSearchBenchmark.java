@@ -0,0 +1,104 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.util.SearchUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Studio search page (20 rows plus the total), substring LIKE against the tasks_fts index
+ *
+ * like: the query Studio ran before, LOWER(title/description) LIKE '%q%', which reads every main task.
+ * fts: TaskRepository.searchTasksWithFilter with the MATCH expression SearchUtils builds.
+ * "task 4242" matches a handful of rows, "stuck" about half of them (every description ends with it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskSearchBenchmark {
+
+    // The old findTasksWithFilter search clause and smart order, as SQL
+    private static final String LIKE_FILTER =
+            "FROM tasks t WHERE t.parent_id IS NULL AND " +
+            "(LOWER(t.title) LIKE LOWER('%' || :q || '%') OR LOWER(t.description) LIKE LOWER('%' || :q || '%')) ";
+    private static final String LIKE_PAGE =
+            "SELECT t.* " + LIKE_FILTER +
+            "ORDER BY CASE WHEN t.deadline IS NOT NULL AND t.deadline < :today THEN 1 " +
+            "WHEN t.deadline IS NOT NULL AND t.deadline <= :urgent THEN 2 ELSE 3 END, " +
+            "COALESCE(t.priority, 3), t.updated_at DESC LIMIT 20";
+    private static final String LIKE_COUNT = "SELECT COUNT(*) " + LIKE_FILTER;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"task 4242", "stuck"})
+    private String query;
+
+    private BenchmarkDatabase database;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate reads;
+    private String matchExpression;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(size);
+        taskRepository = database.bean(TaskRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(database.bean(EntityManagerFactory.class));
+        reads = new TransactionTemplate(database.bean(TransactionTemplate.class).getTransactionManager());
+        reads.setReadOnly(true);
+        matchExpression = SearchUtils.toMatchExpression(query);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long like() {
+        LocalDate today = LocalDate.now();
+        return reads.execute(status -> {
+            List<Task> page = entityManager.createNativeQuery(LIKE_PAGE, Task.class)
+                    .setParameter("q", query)
+                    .setParameter("today", today)
+                    .setParameter("urgent", today.plusDays(3))
+                    .getResultList();
+            Number total = (Number) entityManager.createNativeQuery(LIKE_COUNT)
+                    .setParameter("q", query)
+                    .getSingleResult();
+            return page.size() + total.longValue();
+        });
+    }
+
+    @Benchmark
+    public long fts() {
+        return reads.execute(status -> taskRepository.searchTasksWithFilter(matchExpression,
+                null, null, null, null, null, null, PageRequest.of(0, 20)).getTotalElements());
+    }
+}
@@ -0,0 +1,187 @@
+package com.sonic.taskmanager.benchmark;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
+import com.sonic.taskmanager.model.dto.WorkspaceDto;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.service.FocusRankingService;
+import com.sonic.taskmanager.service.MoodCalculatorService;
+import com.sonic.taskmanager.service.MoodCalculatorService.StressCounts;
+import com.sonic.taskmanager.service.ReminderService;
+import com.sonic.taskmanager.service.SubtaskLoader;
+import com.sonic.taskmanager.service.WorkspaceService;
+import com.sonic.taskmanager.util.FocusCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole workspace over a stubbed repository: the full recompute, which maps
+ * every scoring row, and the build from rows already in memory, both ranked by FocusCalculator
+ * (LiveWorkspace ranks by the stored scores, which needs the database: FocusRankingBenchmark)
+ *
+ * computeWorkspaceMultiPass: the same build as one stream pass per section, each filtering
+ * into its own list, as computeWorkspace did before WorkspaceAccumulator; compare with -prof gc.
+ * It skips the reload of the few shown rows computeWorkspace does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WorkspaceServiceBenchmark {
+
+    private static final int NEXT_UP_LIMIT = 8;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private WorkspaceService workspaceService;
+    private FocusCalculator focusCalculator;
+    private ReminderService reminderService;
+    private SubtaskLoader subtaskLoader;
+    private final MoodCalculatorService moodCalculatorService = new MoodCalculatorService();
+    private List<Task> scoringTasks;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        List<Task> openTasks = SyntheticTasks.openTasks(size, now);
+        TaskRepository taskRepository = SyntheticTasks.repository(openTasks);
+        workspaceService = newWorkspaceService(taskRepository);
+        focusCalculator = new FocusCalculator();
+        reminderService = new ReminderService(taskRepository, event -> { });
+        subtaskLoader = new SubtaskLoader(taskRepository, focusCalculator);
+        scoringTasks = taskRepository.findOpenScoringRows().stream().map(TaskScoringRow::toTask).toList();
+    }
+
+    static WorkspaceService newWorkspaceService(TaskRepository taskRepository) {
+        FocusCalculator focusCalculator = new FocusCalculator();
+        return new WorkspaceService(taskRepository, focusCalculator,
+                new ReminderService(taskRepository, event -> { }),
+                new MoodCalculatorService(),
+                new SubtaskLoader(taskRepository, focusCalculator),
+                new FocusRankingService(taskRepository, focusCalculator));
+    }
+
+    @Benchmark
+    public WorkspaceDto calculateTodaysWorkspace() {
+        return workspaceService.calculateTodaysWorkspace();
+    }
+
+    @Benchmark
+    public WorkspaceDto computeWorkspaceInMemory() {
+        return workspaceService.computeWorkspace(scoringTasks, now);
+    }
+
+    @Benchmark
+    public WorkspaceDto computeWorkspaceMultiPass() {
+        LocalDate today = now.toLocalDate();
+        List<Task> activeTasks = scoringTasks.stream()
+                .filter(task -> task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now))
+                .toList();
+        activeTasks = activeTasks.stream()
+                .map(task -> {
+                    task.setDaysUntilDeadline(focusCalculator.calculateDaysUntilDeadline(task, today));
+                    task.setUrgencyLevel(focusCalculator.calculateUrgencyLevel(task, today));
+                    return task;
+                })
+                .toList();
+
+        List<Task> mainTasks = activeTasks.stream()
+                .filter(task -> task.getParentId() == null)
+                .filter(task -> !task.isCompleted())
+                .toList();
+        double[] scores = focusCalculator.scoreAll(mainTasks, today);
+        int[] best = focusCalculator.selectTop(scores, 1, i -> true);
+        int focusIndex = best.length > 0 ? best[0] : -1;
+        Task focusTask = null;
+        if (focusIndex >= 0) {
+            focusTask = new Task(mainTasks.get(focusIndex));
+            if (focusTask.getFocusContext() == null || focusTask.getFocusContext().isBlank()) {
+                focusTask.setFocusContext(focusCalculator.generateFocusContext(focusTask));
+            }
+            subtaskLoader.attachSubtasks(List.of(focusTask));
+        }
+        List<Task> nextUpStack = new ArrayList<>();
+        for (int index : focusCalculator.selectTop(scores, NEXT_UP_LIMIT,
+                i -> i != focusIndex && mainTasks.get(i).getType() != TaskType.REMINDER)) {
+            nextUpStack.add(mainTasks.get(index));
+        }
+
+        List<Task> quickWins = activeTasks.stream()
+                .filter(task -> task.getParentId() == null)
+                .filter(task -> task.getStatus() == TaskStatus.TODO)
+                .filter(task -> task.getPriority() == TaskPriority.HIGH)
+                .filter(task -> task.getComplexity() == TaskComplexity.EASY)
+                .limit(4)
+                .toList();
+        List<Task> activeReminders = reminderService.selectActiveReminders(scoringTasks, now);
+
+        // Mood: its own main task list and one count per kind of pressure
+        List<Task> moodTasks = activeTasks.stream()
+                .filter(task -> task.getParentId() == null)
+                .filter(task -> !task.isCompleted())
+                .toList();
+        StressCounts stress = new StressCounts(activeTasks.size(), moodTasks.size(),
+                (int) moodTasks.stream().filter(Task::isOverdue).count(),
+                (int) moodTasks.stream().filter(Task::isUrgent).count(),
+                (int) moodTasks.stream().filter(task -> task.getPriority() == TaskPriority.HIGH).count(),
+                (int) moodTasks.stream().filter(task -> task.getComplexity() == TaskComplexity.HARD).count());
+
+        WorkspaceDto workspace = new WorkspaceDto();
+        workspace.setFocusTask(focusTask);
+        workspace.setNextUpStack(nextUpStack);
+        workspace.setQuickWins(quickWins);
+        workspace.setActiveReminders(activeReminders);
+        workspace.setDailyMood(moodCalculatorService.calculateDailyMood(stress));
+
+        WorkspaceDto.ShowSectionsDto showSections = new WorkspaceDto.ShowSectionsDto();
+        showSections.setUrgentTasks(activeTasks.stream().anyMatch(task -> task.isOverdue() || task.isUrgent()));
+        showSections.setQuickWins(!quickWins.isEmpty());
+        showSections.setReminders(!activeReminders.isEmpty());
+        showSections.setHabits(activeTasks.stream().anyMatch(task -> task.getType() == TaskType.HABIT));
+        workspace.setShowSections(showSections);
+
+        // Workload: a third main task list
+        List<Task> workloadTasks = activeTasks.stream()
+                .filter(task -> task.getParentId() == null)
+                .filter(task -> !task.isCompleted())
+                .toList();
+        WorkspaceDto.WorkloadAssessmentDto assessment = new WorkspaceDto.WorkloadAssessmentDto();
+        assessment.setTotalTasks(workloadTasks.size());
+        assessment.setUrgentCount((int) workloadTasks.stream().filter(task -> task.isOverdue() || task.isUrgent()).count());
+        assessment.setEstimatedHours(workloadTasks.stream().mapToDouble(WorkspaceServiceBenchmark::estimateHours).sum());
+        workspace.setWorkloadAssessment(assessment);
+        return workspace;
+    }
+
+    private static double estimateHours(Task task) {
+        if (task.getComplexity() == null) return 1.0;
+        return switch (task.getComplexity()) {
+            case EASY -> 0.5;
+            case MEDIUM -> 2.0;
+            case HARD -> 4.0;
+        };
+    }
+}
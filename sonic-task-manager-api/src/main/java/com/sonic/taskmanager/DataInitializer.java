@@ -2,13 +2,22 @@ package com.sonic.taskmanager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.sonic.taskmanager.event.TaskChangedEvent;
 import com.sonic.taskmanager.model.HabitSession;
 import com.sonic.taskmanager.model.Preferences;
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
 import com.sonic.taskmanager.repository.HabitSessionRepository;
 import com.sonic.taskmanager.repository.PreferencesRepository;
 import com.sonic.taskmanager.repository.TaskRepository;
@@ -19,16 +28,20 @@ public class DataInitializer implements CommandLineRunner {
     private final TaskRepository taskRepository;
     private final HabitSessionRepository habitSessionRepository;
     private final PreferencesRepository preferencesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DataInitializer(TaskRepository taskRepository, 
                           HabitSessionRepository habitSessionRepository,
-                          PreferencesRepository preferencesRepository) {
+                          PreferencesRepository preferencesRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.habitSessionRepository = habitSessionRepository;
         this.preferencesRepository = preferencesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional // one transaction, so the seed rows go out as JDBC batches
     public void run(String... args) throws Exception {
         // Only initialize if database is empty
         if (taskRepository.count() == 0) {
@@ -36,6 +49,7 @@ public class DataInitializer implements CommandLineRunner {
             createSampleTasks();
             createSampleHabitSessions();
             createDefaultPreferences();
+            eventPublisher.publishEvent(TaskChangedEvent.all());
             System.out.println("Sample data created successfully!");
         } else {
             System.out.println("Database already contains data. Skipping initialization.");
@@ -47,37 +61,37 @@ public class DataInitializer implements CommandLineRunner {
         Task photovista = createTask(
             "Complete Photovista wireframes",
             "Design the main user interface wireframes for the photo sharing app",
-            "deadline", "high", "hard",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.HARD,
             LocalDate.now().plusDays(3), // Due in 3 days - should become focus
             "Take your time with the design, just get the main flow sketched out"
         );
         Task photovistaId = taskRepository.save(photovista);
 
         // Add subtasks for Photovista
-        createSubtask(photovistaId.getId(), "Research competitor apps", "done");
-        createSubtask(photovistaId.getId(), "Sketch main screens", "todo");
-        createSubtask(photovistaId.getId(), "Create user flow", "todo");
-        createSubtask(photovistaId.getId(), "Review with team", "todo");
+        createSubtask(photovistaId.getId(), "Research competitor apps", TaskStatus.DONE);
+        createSubtask(photovistaId.getId(), "Sketch main screens", TaskStatus.TODO);
+        createSubtask(photovistaId.getId(), "Create user flow", TaskStatus.TODO);
+        createSubtask(photovistaId.getId(), "Review with team", TaskStatus.TODO);
 
         // 2. OVERDUE TASK - Should become highest focus
         Task reactNative = createTask(
             "Setup React Native development environment",
             "Install and configure React Native for mobile development",
-            "deadline", "high", "hard",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.HARD,
             LocalDate.now().minusDays(2), // Overdue by 2 days
             "This is overdue - let's get it done step by step"
         );
         Task reactNativeId = taskRepository.save(reactNative);
 
-        createSubtask(reactNativeId.getId(), "Install Node.js and npm", "todo");
-        createSubtask(reactNativeId.getId(), "Install React Native CLI", "todo");
-        createSubtask(reactNativeId.getId(), "Setup Android Studio", "todo");
+        createSubtask(reactNativeId.getId(), "Install Node.js and npm", TaskStatus.TODO);
+        createSubtask(reactNativeId.getId(), "Install React Native CLI", TaskStatus.TODO);
+        createSubtask(reactNativeId.getId(), "Setup Android Studio", TaskStatus.TODO);
 
         // 3. NEXT UP STACK TASKS - Various priorities
         taskRepository.save(createTask(
             "Reply to client emails",
             "Respond to 3 pending client emails from this week",
-            "deadline", "high", "easy",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.EASY,
             LocalDate.now().plusDays(1),
             null
         ));
@@ -85,7 +99,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Update portfolio website",
             "Add recent projects and update contact information",
-            "deadline", "medium", "medium",
+            TaskType.DEADLINE, TaskPriority.MEDIUM, TaskComplexity.MEDIUM,
             LocalDate.now().plusDays(7),
             null
         ));
@@ -93,7 +107,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Research laptop options",
             "Compare different laptop models for development work",
-            "deadline", "medium", "easy",
+            TaskType.DEADLINE, TaskPriority.MEDIUM, TaskComplexity.EASY,
             LocalDate.now().plusDays(14),
             null
         ));
@@ -101,7 +115,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Plan weekend trip to Da Lat",
             "Book hotel and plan itinerary for weekend getaway",
-            "deadline", "low", "medium",
+            TaskType.DEADLINE, TaskPriority.LOW, TaskComplexity.MEDIUM,
             LocalDate.now().plusDays(10),
             null
         ));
@@ -110,7 +124,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Backup project files to cloud",
             "Upload important project files to Google Drive",
-            "deadline", "high", "easy",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.EASY,
             LocalDate.now().plusDays(5),
             null
         ));
@@ -118,7 +132,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Call dentist for appointment",
             "Schedule dental checkup for next month",
-            "deadline", "high", "easy",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.EASY,
             LocalDate.now().plusDays(2),
             null
         ));
@@ -126,7 +140,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Order new keyboard",
             "Replace broken mechanical keyboard for better typing",
-            "deadline", "high", "easy",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.EASY,
             LocalDate.now().plusDays(7),
             null
         ));
@@ -135,7 +149,7 @@ public class DataInitializer implements CommandLineRunner {
         Task pianoTask = createTask(
             "Practice piano - Für Elise",
             "Continue learning classical piano piece",
-            "habit", "medium", "medium",
+            TaskType.HABIT, TaskPriority.MEDIUM, TaskComplexity.MEDIUM,
             null,
             "Take your time, practice when you feel like it"
         );
@@ -144,7 +158,7 @@ public class DataInitializer implements CommandLineRunner {
         Task englishTask = createTask(
             "Improve English speaking",
             "Practice English conversation through online sessions",
-            "habit", "medium", "medium",
+            TaskType.HABIT, TaskPriority.MEDIUM, TaskComplexity.MEDIUM,
             null,
             "15-20 minutes daily practice is enough"
         );
@@ -153,7 +167,7 @@ public class DataInitializer implements CommandLineRunner {
         Task readingTask = createTask(
             "Read 'Clean Code' book",
             "Finish reading the software development classic",
-            "habit", "low", "medium",
+            TaskType.HABIT, TaskPriority.LOW, TaskComplexity.MEDIUM,
             null,
             "Read one chapter at a time, no rush"
         );
@@ -163,7 +177,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Think about buying a car",
             "Consider whether it's time to purchase a vehicle",
-            "reminder", "low", "hard",
+            TaskType.REMINDER, TaskPriority.LOW, TaskComplexity.HARD,
             null,
             null
         ));
@@ -171,7 +185,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Plan mother's birthday party",
             "Start thinking about celebration ideas for next month",
-            "reminder", "medium", "medium",
+            TaskType.REMINDER, TaskPriority.MEDIUM, TaskComplexity.MEDIUM,
             LocalDate.now().plusDays(45),
             null
         ));
@@ -179,7 +193,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Research investment options",
             "Look into different ways to invest savings",
-            "reminder", "low", "hard",
+            TaskType.REMINDER, TaskPriority.LOW, TaskComplexity.HARD,
             null,
             null
         ));
@@ -188,7 +202,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Team standup meeting",
             "Weekly team sync and progress updates",
-            "event", "medium", "easy",
+            TaskType.EVENT, TaskPriority.MEDIUM, TaskComplexity.EASY,
             LocalDate.now(),
             null
         ));
@@ -196,7 +210,7 @@ public class DataInitializer implements CommandLineRunner {
         taskRepository.save(createTask(
             "Visit grandmother for weekend",
             "Family visit planned for this weekend",
-            "event", "high", "easy",
+            TaskType.EVENT, TaskPriority.HIGH, TaskComplexity.EASY,
             LocalDate.now().plusDays(2),
             null
         ));
@@ -205,11 +219,11 @@ public class DataInitializer implements CommandLineRunner {
         Task completedTask = createTask(
             "Set up development environment",
             "Install necessary development tools",
-            "deadline", "high", "medium",
+            TaskType.DEADLINE, TaskPriority.HIGH, TaskComplexity.MEDIUM,
             LocalDate.now().minusDays(1),
             null
         );
-        completedTask.setStatus("done");
+        completedTask.setStatus(TaskStatus.DONE);
         completedTask.setCompletedAt(LocalDateTime.now().minusHours(2));
         completedTask.setProgressCurrent(1);
         taskRepository.save(completedTask);
@@ -217,11 +231,11 @@ public class DataInitializer implements CommandLineRunner {
         Task completedTask2 = createTask(
             "Buy groceries for the week",
             "Weekly grocery shopping",
-            "deadline", "medium", "easy",
+            TaskType.DEADLINE, TaskPriority.MEDIUM, TaskComplexity.EASY,
             LocalDate.now().minusDays(1),
             null
         );
-        completedTask2.setStatus("done");
+        completedTask2.setStatus(TaskStatus.DONE);
         completedTask2.setCompletedAt(LocalDateTime.now().minusHours(5));
         completedTask2.setProgressCurrent(1);
         taskRepository.save(completedTask2);
@@ -230,8 +244,8 @@ public class DataInitializer implements CommandLineRunner {
         updateParentTaskProgress();
     }
 
-    private Task createTask(String title, String description, String type, String priority, 
-                           String complexity, LocalDate deadline, String focusContext) {
+    private Task createTask(String title, String description, TaskType type, TaskPriority priority, 
+                           TaskComplexity complexity, LocalDate deadline, String focusContext) {
         Task task = new Task();
         task.setTitle(title);
         task.setDescription(description);
@@ -240,29 +254,31 @@ public class DataInitializer implements CommandLineRunner {
         task.setComplexity(complexity);
         task.setDeadline(deadline);
         task.setFocusContext(focusContext);
-        task.setStatus("todo");
+        task.setStatus(TaskStatus.TODO);
         task.setProgressCurrent(0);
         task.setProgressTotal(1);
         return task;
     }
 
-    private void createSubtask(Long parentId, String title, String status) {
+    private void createSubtask(Long parentId, String title, TaskStatus status) {
         Task subtask = new Task();
         subtask.setTitle(title);
         subtask.setParentId(parentId);
-        subtask.setType("deadline");
-        subtask.setPriority("medium");
-        subtask.setComplexity("easy");
+        subtask.setType(TaskType.DEADLINE);
+        subtask.setPriority(TaskPriority.MEDIUM);
+        subtask.setComplexity(TaskComplexity.EASY);
         subtask.setStatus(status);
-        subtask.setProgressCurrent(status.equals("done") ? 1 : 0);
+        subtask.setProgressCurrent(status == TaskStatus.DONE ? 1 : 0);
         subtask.setProgressTotal(1);
-        if (status.equals("done")) {
+        if (status == TaskStatus.DONE) {
             subtask.setCompletedAt(LocalDateTime.now().minusHours(1));
         }
         taskRepository.save(subtask);
     }
 
     private void createSampleHabitSessions() {
+        List<HabitSession> sessions = new ArrayList<>();
+
         // Find piano task to add some habit sessions
         taskRepository.findByTitle("Practice piano - Für Elise").ifPresent(pianoTask -> {
             // Add some practice sessions from past week
@@ -272,7 +288,7 @@ public class DataInitializer implements CommandLineRunner {
                 session.setSessionDate(LocalDate.now().minusDays(i));
                 session.setDurationMinutes(20 + (i * 5)); // Varying duration
                 session.setProgressNote("Practiced for " + (20 + i * 5) + " minutes - getting better!");
-                habitSessionRepository.save(session);
+                sessions.add(session);
             }
         });
 
@@ -284,9 +300,11 @@ public class DataInitializer implements CommandLineRunner {
                 session.setSessionDate(LocalDate.now().minusDays(i));
                 session.setDurationMinutes(15);
                 session.setProgressNote("Conversation practice - " + (i == 1 ? "great" : "good") + " session");
-                habitSessionRepository.save(session);
+                sessions.add(session);
             }
         });
+
+        habitSessionRepository.saveAll(sessions);
     }
 
     private void createDefaultPreferences() {
@@ -310,15 +328,17 @@ public class DataInitializer implements CommandLineRunner {
         // Update Photovista progress (1 of 4 subtasks done)
         taskRepository.findByTitle("Complete Photovista wireframes").ifPresent(parent -> {
             long completedSubtasks = taskRepository.findByParentId(parent.getId()).stream()
-                    .filter(task -> "done".equals(task.getStatus()))
+                    .filter(Task::isCompleted)
                     .count();
             long totalSubtasks = taskRepository.findByParentId(parent.getId()).size();
             
             parent.setProgressCurrent((int) completedSubtasks);
             parent.setProgressTotal((int) totalSubtasks);
+            parent.setSubtaskCount((int) totalSubtasks);
+            parent.setSubtaskDoneCount((int) completedSubtasks);
             
             if (completedSubtasks > 0) {
-                parent.setStatus("doing"); // Some progress made
+                parent.setStatus(TaskStatus.DOING); // Some progress made
             }
             
             taskRepository.save(parent);
@@ -329,6 +349,8 @@ public class DataInitializer implements CommandLineRunner {
             long totalSubtasks = taskRepository.findByParentId(parent.getId()).size();
             parent.setProgressCurrent(0);
             parent.setProgressTotal((int) totalSubtasks);
+            parent.setSubtaskCount((int) totalSubtasks);
+            parent.setSubtaskDoneCount(0);
             taskRepository.save(parent);
         });
     }
@@ -0,0 +1,86 @@
+package com.sonic.taskmanager.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * SQLite storage configuration
+ * WAL journal so readers never block behind the writer, one writer connection
+ * (SQLite allows a single writer anyway) and a pool of concurrent readers
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+
+    @Value("${sonic.datasource.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+
+    @Value("${sonic.datasource.reader-pool-size:4}")
+    private int readerPoolSize;
+
+    @Value("${sonic.datasource.connection-timeout-ms:30000}")
+    private long connectionTimeoutMs;
+
+    // The pools are not beans themselves, so they are closed here on shutdown
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        HikariDataSource writer = createPool("sonic-writer", 1);
+        HikariDataSource reader = createPool("sonic-reader", readerPoolSize);
+        routing.setTargetDataSources(Map.of(
+            ReadWriteRoutingDataSource.Route.WRITER, writer,
+            ReadWriteRoutingDataSource.Route.READER, reader
+        ));
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+
+        // Defer picking a pool until the first statement, when the transaction's
+        // read-only flag is already known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createPool(String poolName, int size) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setDriverClassName(driverClassName);
+        config.setMaximumPoolSize(size);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(connectionTimeoutMs);
+
+        // SQLite pragmas applied by the driver on every new connection
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("synchronous", "NORMAL");
+        config.addDataSourceProperty("busy_timeout", String.valueOf(busyTimeoutMs));
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
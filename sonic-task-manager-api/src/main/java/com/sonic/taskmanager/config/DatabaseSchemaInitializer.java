@@ -0,0 +1,218 @@
+package com.sonic.taskmanager.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import com.sonic.taskmanager.model.CodedEnum;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.id.PooledTableIdGenerator;
+import com.sonic.taskmanager.repository.FocusScoreStore;
+import com.sonic.taskmanager.util.FocusScoringModel;
+
+/**
+ * Creates the SQLite objects that Hibernate's ddl-auto cannot manage
+ * Runs once the entity tables exist (after the EntityManagerFactory)
+ * and before any CommandLineRunner writes data
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class DatabaseSchemaInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FocusScoreStore focusScoreStore;
+
+    public DatabaseSchemaInitializer(JdbcTemplate jdbcTemplate, FocusScoreStore focusScoreStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.focusScoreStore = focusScoreStore;
+    }
+
+    // Tables whose ids come from PooledTableIdGenerator; the sequence is named after the table
+    private static final List<String> POOLED_ID_TABLES = List.of("tasks", "habit_sessions");
+
+    // Values the enum migration could not map, kept with their task and column
+    private static final String ENUM_MIGRATION_BACKUP_TABLE = "tasks_enum_migration_backup";
+
+    // Task columns that hold CodedEnum codes; older databases store the lowercase values
+    private static final Map<String, CodedEnum[]> TASK_ENUM_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        TASK_ENUM_COLUMNS.put("type", TaskType.values());
+        TASK_ENUM_COLUMNS.put("priority", TaskPriority.values());
+        TASK_ENUM_COLUMNS.put("complexity", TaskComplexity.values());
+        TASK_ENUM_COLUMNS.put("status", TaskStatus.values());
+    }
+
+    @PostConstruct
+    public void initialize() {
+        migrateTaskEnumColumns();
+        initializeTaskSearchIndex();
+        // Stored preferences are applied once the application is ready (FocusScoringModelService)
+        focusScoreStore.initialize(FocusScoringModel.defaults());
+        initializeIdSequences();
+    }
+
+    /**
+     * Convert string enum columns on tasks to INTEGER codes
+     * ddl-auto=update never changes a column type, so each TEXT column is replaced:
+     * add an integer column, fill it from the old values (case-insensitive; unknown
+     * values become NULL and are copied to ENUM_MIGRATION_BACKUP_TABLE first),
+     * drop the old column and take over its name.
+     * Indexes covering the columns are dropped first and recreated as they were.
+     * Runs in one transaction, and only while some column is still TEXT.
+     */
+    private void migrateTaskEnumColumns() {
+        Map<String, String> declaredTypes = new LinkedHashMap<>();
+        jdbcTemplate.query("PRAGMA table_info(tasks)",
+            (ResultSet rs) -> { declaredTypes.put(rs.getString("name"), rs.getString("type")); });
+
+        List<String> columns = TASK_ENUM_COLUMNS.keySet().stream()
+            .filter(column -> declaredTypes.containsKey(column))
+            .filter(column -> !"integer".equalsIgnoreCase(declaredTypes.get(column)))
+            .toList();
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        // Index name -> CREATE statement
+        Map<String, String> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "SELECT name, sql FROM sqlite_master WHERE type = 'index' AND tbl_name = 'tasks' AND sql IS NOT NULL",
+            (ResultSet rs) -> { indexes.put(rs.getString("name"), rs.getString("sql")); });
+
+        jdbcTemplate.execute((Connection connection) -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String index : indexes.keySet()) {
+                    statement.execute("DROP INDEX " + index);
+                }
+                for (String column : columns) {
+                    migrateColumn(statement, column, TASK_ENUM_COLUMNS.get(column));
+                }
+                for (String createIndex : indexes.values()) {
+                    statement.execute(createIndex);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+        logger.info("Migrated tasks columns {} to integer codes", columns);
+    }
+
+    private void migrateColumn(Statement statement, String column, CodedEnum[] constants) throws SQLException {
+        StringBuilder codes = new StringBuilder("CASE lower(trim(" + column + "))");
+        for (CodedEnum constant : constants) {
+            codes.append(" WHEN '").append(constant.getValue()).append("' THEN ").append(constant.getCode());
+        }
+        codes.append(" END");
+
+        String migrated = column + "_code";
+        statement.execute("ALTER TABLE tasks ADD COLUMN " + migrated + " integer");
+        statement.execute("UPDATE tasks SET " + migrated + " = " + codes);
+
+        String unmapped = " FROM tasks WHERE " + column + " IS NOT NULL AND " + migrated + " IS NULL";
+        List<Long> unmappedIds = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery("SELECT id" + unmapped + " ORDER BY id")) {
+            while (rs.next()) {
+                unmappedIds.add(rs.getLong(1));
+            }
+        }
+        if (!unmappedIds.isEmpty()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + ENUM_MIGRATION_BACKUP_TABLE + " (" +
+                "task_id INTEGER NOT NULL, column_name TEXT NOT NULL, old_value TEXT NOT NULL)");
+            statement.execute("INSERT INTO " + ENUM_MIGRATION_BACKUP_TABLE + " (task_id, column_name, old_value) " +
+                "SELECT id, '" + column + "', " + column + unmapped);
+            logger.warn("{} tasks had an unknown {} value, cleared; old values kept in {}, task ids {}",
+                unmappedIds.size(), column, ENUM_MIGRATION_BACKUP_TABLE, unmappedIds);
+        }
+
+        statement.execute("ALTER TABLE tasks DROP COLUMN " + column);
+        statement.execute("ALTER TABLE tasks RENAME COLUMN " + migrated + " TO " + column);
+    }
+
+    /**
+     * FTS5 index over title, description, tags and context
+     * External-content table kept in sync with tasks by triggers
+     */
+    private void initializeTaskSearchIndex() {
+        boolean exists = tableExists("tasks_fts");
+
+        jdbcTemplate.execute(
+            "CREATE VIRTUAL TABLE IF NOT EXISTS tasks_fts USING fts5(" +
+            "title, description, tags, context, content='tasks', content_rowid='id')");
+
+        jdbcTemplate.execute(
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_insert AFTER INSERT ON tasks BEGIN " +
+            "INSERT INTO tasks_fts(rowid, title, description, tags, context) " +
+            "VALUES (new.id, new.title, new.description, new.tags, new.context); END");
+
+        jdbcTemplate.execute(
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_delete AFTER DELETE ON tasks BEGIN " +
+            "INSERT INTO tasks_fts(tasks_fts, rowid, title, description, tags, context) " +
+            "VALUES ('delete', old.id, old.title, old.description, old.tags, old.context); END");
+
+        jdbcTemplate.execute(
+            "CREATE TRIGGER IF NOT EXISTS tasks_fts_update AFTER UPDATE OF title, description, tags, context ON tasks BEGIN " +
+            "INSERT INTO tasks_fts(tasks_fts, rowid, title, description, tags, context) " +
+            "VALUES ('delete', old.id, old.title, old.description, old.tags, old.context); " +
+            "INSERT INTO tasks_fts(rowid, title, description, tags, context) " +
+            "VALUES (new.id, new.title, new.description, new.tags, new.context); END");
+
+        if (!exists) {
+            // First start with the index - pull in rows written before it existed
+            jdbcTemplate.execute("INSERT INTO tasks_fts(tasks_fts) VALUES ('rebuild')");
+            logger.info("Built full-text search index for existing tasks");
+        }
+    }
+
+    /**
+     * Block allocator state for pooled ids
+     * Moved past MAX(id) on every start, which also covers databases written with
+     * IDENTITY ids and blocks whose reservation was rolled back before a restart
+     */
+    private void initializeIdSequences() {
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS " + PooledTableIdGenerator.TABLE + " (" +
+            "sequence_name TEXT PRIMARY KEY, next_val INTEGER NOT NULL)");
+
+        for (String table : POOLED_ID_TABLES) {
+            jdbcTemplate.update(
+                "INSERT OR IGNORE INTO " + PooledTableIdGenerator.TABLE + " (sequence_name, next_val) VALUES (?, 1)",
+                table);
+            jdbcTemplate.update(
+                "UPDATE " + PooledTableIdGenerator.TABLE + " SET next_val = " +
+                "MAX(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ")) WHERE sequence_name = ?",
+                table);
+        }
+    }
+
+    private boolean tableExists(String name) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM sqlite_master WHERE name = ?", Integer.class, name);
+        return count != null && count > 0;
+    }
+}
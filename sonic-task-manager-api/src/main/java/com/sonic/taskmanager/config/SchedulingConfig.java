@@ -0,0 +1,12 @@
+package com.sonic.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the background maintenance jobs
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
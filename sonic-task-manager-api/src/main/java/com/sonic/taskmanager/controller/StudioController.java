@@ -1,10 +1,18 @@
 package com.sonic.taskmanager.controller;
 
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
 import com.sonic.taskmanager.model.dto.TaskFilterDto;
+import com.sonic.taskmanager.model.dto.TaskStatsDto;
 import com.sonic.taskmanager.model.request.BulkUpdateRequest;
 import com.sonic.taskmanager.model.response.BaseResponse;
 import com.sonic.taskmanager.model.response.BulkOperationResponse;
+import com.sonic.taskmanager.model.response.CacheStatsResponse;
 import com.sonic.taskmanager.model.response.PaginatedTaskResponse;
+import com.sonic.taskmanager.model.response.TaskStatsResponse;
+import com.sonic.taskmanager.service.CacheStatisticsService;
 import com.sonic.taskmanager.service.TaskService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,9 +25,11 @@ import org.springframework.web.bind.annotation.*;
 public class StudioController {
 
     private final TaskService taskService;
+    private final CacheStatisticsService cacheStatisticsService;
 
-    public StudioController(TaskService taskService) {
+    public StudioController(TaskService taskService, CacheStatisticsService cacheStatisticsService) {
         this.taskService = taskService;
+        this.cacheStatisticsService = cacheStatisticsService;
     }
 
     @GetMapping("/tasks")
@@ -39,7 +49,11 @@ public class StudioController {
             @RequestParam(name = "search", required = false) String search,
             @RequestParam(name = "hasSubtasks", required = false) Boolean hasSubtasks,
             @RequestParam(name = "isOverdue", required = false) Boolean isOverdue,
-            @RequestParam(name = "isUrgent", required = false) Boolean isUrgent) {
+            @RequestParam(name = "isUrgent", required = false) Boolean isUrgent,
+
+            // Keyset pagination: pass cursor (empty for the first page) instead of page
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
 
         // Validate pagination parameters
         if (page < 0) {
@@ -57,10 +71,10 @@ public class StudioController {
 
         // Build filter DTO
         TaskFilterDto filter = new TaskFilterDto();
-        filter.setStatus(status);
-        filter.setPriority(priority);
-        filter.setComplexity(complexity);
-        filter.setType(type);
+        filter.setStatus(TaskStatus.fromValue(status));
+        filter.setPriority(TaskPriority.fromValue(priority));
+        filter.setComplexity(TaskComplexity.fromValue(complexity));
+        filter.setType(TaskType.fromValue(type));
         filter.setSearchQuery(search);
         filter.setHasSubtasks(hasSubtasks);
         filter.setIsOverdue(isOverdue);
@@ -82,6 +96,10 @@ public class StudioController {
             }
         }
 
+        if (cursor != null) {
+            return taskService.getTasksAfterCursor(cursor, size, includeTotal, filter);
+        }
+
         return taskService.getTasksPaginated(pageable, filter);
     }
 
@@ -119,16 +137,27 @@ public class StudioController {
     }
 
     @GetMapping("/stats")
-    public BaseResponse getTaskStatistics() {
-        var stats = taskService.getTaskStatistics();
+    public TaskStatsResponse getTaskStatistics() {
+        TaskStatsDto stats = taskService.getTaskStatistics();
         
-        BaseResponse response = new BaseResponse();
+        TaskStatsResponse response = new TaskStatsResponse();
         response.setSuccess(true);
         response.setMessage("Statistics retrieved successfully");
+        response.setStats(stats);
         
         return response;
     }
 
+    @GetMapping("/cache-stats")
+    public CacheStatsResponse getCacheStatistics() {
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setSuccess(true);
+        response.setMessage("Cache statistics retrieved successfully");
+        response.setRegions(cacheStatisticsService.getRegionStatistics());
+
+        return response;
+    }
+
     @PostMapping("/tasks/search")
     public PaginatedTaskResponse searchTasks(
             @RequestBody TaskFilterDto filter,
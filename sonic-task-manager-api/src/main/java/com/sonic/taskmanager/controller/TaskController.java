@@ -6,11 +6,13 @@ import com.sonic.taskmanager.model.request.CreateTaskRequest;
 import com.sonic.taskmanager.model.response.BaseResponse;
 import com.sonic.taskmanager.model.response.TaskResponse;
 import com.sonic.taskmanager.model.response.TaskListResponse;
+import com.sonic.taskmanager.service.DataVersionService;
 import com.sonic.taskmanager.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,13 +24,19 @@ import java.util.NoSuchElementException;
 public class TaskController {
 
     private final TaskService taskService;
+    private final DataVersionService dataVersionService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, DataVersionService dataVersionService) {
         this.taskService = taskService;
+        this.dataVersionService = dataVersionService;
     }
 
     @GetMapping
-    public TaskListResponse getAllTasks() {
+    public TaskListResponse getAllTasks(WebRequest request) {
+        if (request.checkNotModified(dataVersionService.currentTag())) {
+            return null;
+        }
+
         List<Task> tasks = taskService.getAllActiveTasks();
         List<TaskDto> taskDtos = tasks.stream()
                 .map(taskService::convertToDto)
@@ -125,9 +133,10 @@ public class TaskController {
 
     @GetMapping("/{id}/subtasks")
     public TaskListResponse getSubtasks(@PathVariable("id") Long id) {
-        // Verify parent task exists first
-        taskService.getTaskById(id)
-                .orElseThrow(() -> new NoSuchElementException("Parent task with ID " + id + " not found"));
+        // Verify parent task exists first; getTaskById would load the whole subtree
+        if (!taskService.taskExists(id)) {
+            throw new NoSuchElementException("Parent task with ID " + id + " not found");
+        }
         
         List<Task> subtasks = taskService.getSubtasks(id);
         List<TaskDto> subtaskDtos = subtasks.stream()
@@ -141,7 +150,11 @@ public class TaskController {
     }
 
     @GetMapping("/quick-wins")
-    public TaskListResponse getQuickWins() {
+    public TaskListResponse getQuickWins(WebRequest request) {
+        if (request.checkNotModified(dataVersionService.currentTag())) {
+            return null;
+        }
+
         List<Task> quickWins = taskService.findQuickWinTasks();
         List<TaskDto> quickWinDtos = quickWins.stream()
                 .map(taskService::convertToDto)
@@ -157,8 +170,9 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createSubtask(@PathVariable("parentId") Long parentId,
                                                       @Valid @RequestBody CreateTaskRequest request) {
         // Verify parent task exists
-        taskService.getTaskById(parentId)
-                .orElseThrow(() -> new NoSuchElementException("Parent task with ID " + parentId + " not found"));
+        if (!taskService.taskExists(parentId)) {
+            throw new NoSuchElementException("Parent task with ID " + parentId + " not found");
+        }
         
         request.setParentId(parentId);
         Task createdSubtask = taskService.createTask(request);
@@ -171,6 +185,33 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/{parentId}/subtasks/bulk")
+    public ResponseEntity<TaskListResponse> createSubtasks(@PathVariable("parentId") Long parentId,
+                                                           @RequestBody List<CreateTaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Subtask list cannot be empty");
+        }
+        if (requests.size() > 500) {
+            throw new IllegalArgumentException("Cannot create more than 500 subtasks at once");
+        }
+        if (requests.stream().anyMatch(request -> request.getTitle() == null || request.getTitle().isBlank())) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (!taskService.taskExists(parentId)) {
+            throw new NoSuchElementException("Parent task with ID " + parentId + " not found");
+        }
+
+        List<TaskDto> subtaskDtos = taskService.createSubtasks(parentId, requests).stream()
+                .map(taskService::convertToDto)
+                .toList();
+
+        TaskListResponse response = new TaskListResponse();
+        response.setSuccess(true);
+        response.setMessage("Created " + subtaskDtos.size() + " subtasks");
+        response.setTasks(subtaskDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping("/complete-multiple")
     public BaseResponse completeMultipleTasks(@RequestBody List<Long> taskIds) {
         if (taskIds == null || taskIds.isEmpty()) {
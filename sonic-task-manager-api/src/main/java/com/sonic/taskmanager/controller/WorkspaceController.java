@@ -3,27 +3,42 @@ package com.sonic.taskmanager.controller;
 import com.sonic.taskmanager.model.dto.WorkspaceDto;
 import com.sonic.taskmanager.model.response.BaseResponse;
 import com.sonic.taskmanager.model.response.WorkspaceResponse;
-import com.sonic.taskmanager.service.WorkspaceService;
+import com.sonic.taskmanager.service.DataVersionService;
+import com.sonic.taskmanager.service.LiveWorkspace;
 import com.sonic.taskmanager.service.ReminderService;
+import com.sonic.taskmanager.service.WorkspaceStreamService;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/workspace")
 @CrossOrigin(origins = "${cors.allowed-origins}")
 public class WorkspaceController {
 
-    private final WorkspaceService workspaceService;
+    private final LiveWorkspace liveWorkspace;
     private final ReminderService reminderService;
+    private final DataVersionService dataVersionService;
+    private final WorkspaceStreamService workspaceStreamService;
 
-    public WorkspaceController(WorkspaceService workspaceService, 
-                              ReminderService reminderService) {
-        this.workspaceService = workspaceService;
+    public WorkspaceController(LiveWorkspace liveWorkspace, 
+                              ReminderService reminderService,
+                              DataVersionService dataVersionService,
+                              WorkspaceStreamService workspaceStreamService) {
+        this.liveWorkspace = liveWorkspace;
         this.reminderService = reminderService;
+        this.dataVersionService = dataVersionService;
+        this.workspaceStreamService = workspaceStreamService;
     }
 
     @GetMapping
-    public WorkspaceResponse getTodaysWorkspace() {
-        WorkspaceDto workspace = workspaceService.calculateTodaysWorkspace();
+    public WorkspaceResponse getTodaysWorkspace(WebRequest request) {
+        if (request.checkNotModified(dataVersionService.currentTag())) {
+            return null;
+        }
+
+        WorkspaceDto workspace = liveWorkspace.snapshot();
         
         WorkspaceResponse response = new WorkspaceResponse();
         response.setSuccess(true);
@@ -31,9 +46,19 @@ public class WorkspaceController {
         return response;
     }
 
+    /**
+     * Server-sent workspace deltas (focus, next-up, quick-wins, reminders, mood, overview)
+     * Starts with a "snapshot" event unless Last-Event-ID can be resumed
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWorkspace(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return workspaceStreamService.subscribe(lastEventId);
+    }
+
     @PostMapping("/refresh")
     public WorkspaceResponse refreshWorkspace() {
-        WorkspaceDto workspace = workspaceService.refreshWorkspace();
+        liveWorkspace.invalidate();
+        WorkspaceDto workspace = liveWorkspace.snapshot();
         
         WorkspaceResponse response = new WorkspaceResponse();
         response.setSuccess(true);
@@ -0,0 +1,30 @@
+package com.sonic.taskmanager.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when the clock crosses a boundary that changes date-derived state
+ * (local midnight, a snooze ending, a reminder coming due) and the live
+ * workspace has been recomputed for it. Anything cached per epoch is stale.
+ */
+public class CalendarEpochEvent {
+
+    private final long epoch;
+    private final LocalDateTime validUntil;
+
+    public CalendarEpochEvent(long epoch, LocalDateTime validUntil) {
+        this.epoch = epoch;
+        this.validUntil = validUntil;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * When the next epoch starts unless a write moves it earlier
+     */
+    public LocalDateTime getValidUntil() {
+        return validUntil;
+    }
+}
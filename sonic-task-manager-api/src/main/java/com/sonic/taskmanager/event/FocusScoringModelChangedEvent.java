@@ -0,0 +1,20 @@
+package com.sonic.taskmanager.event;
+
+import com.sonic.taskmanager.util.FocusScoringModel;
+
+/**
+ * Published once FocusCalculator scores with new weights
+ * Task data is unchanged, but every focus score and ranking derived from it is stale
+ */
+public class FocusScoringModelChangedEvent {
+
+    private final FocusScoringModel model;
+
+    public FocusScoringModelChangedEvent(FocusScoringModel model) {
+        this.model = model;
+    }
+
+    public FocusScoringModel getModel() {
+        return model;
+    }
+}
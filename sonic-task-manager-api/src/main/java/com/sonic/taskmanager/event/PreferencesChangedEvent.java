@@ -0,0 +1,41 @@
+package com.sonic.taskmanager.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by every write to preferences, delivered to listeners after commit
+ * Carries the keys written or deleted; a reset reports every key
+ */
+public class PreferencesChangedEvent {
+
+    private final Set<String> keys;
+    private final boolean reset;
+
+    private PreferencesChangedEvent(Set<String> keys, boolean reset) {
+        this.keys = keys;
+        this.reset = reset;
+    }
+
+    /**
+     * The given keys were set or deleted
+     */
+    public static PreferencesChangedEvent of(Collection<String> keys) {
+        return new PreferencesChangedEvent(Set.copyOf(keys), false);
+    }
+
+    /**
+     * Every preference went back to its default
+     */
+    public static PreferencesChangedEvent reset() {
+        return new PreferencesChangedEvent(Set.of(), true);
+    }
+
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+}
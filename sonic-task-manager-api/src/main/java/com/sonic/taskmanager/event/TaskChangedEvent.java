@@ -0,0 +1,54 @@
+package com.sonic.taskmanager.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by every write to tasks, delivered to listeners after commit
+ * Carries the ids whose rows changed so in-memory views can refresh just those
+ */
+public class TaskChangedEvent {
+
+    private final Set<Long> taskIds;
+    private final boolean includeSubtrees;
+    private final boolean fullReload;
+
+    private TaskChangedEvent(Set<Long> taskIds, boolean includeSubtrees, boolean fullReload) {
+        this.taskIds = taskIds;
+        this.includeSubtrees = includeSubtrees;
+        this.fullReload = fullReload;
+    }
+
+    /**
+     * The given rows changed (inserted, updated or deleted)
+     */
+    public static TaskChangedEvent of(Collection<Long> taskIds) {
+        return new TaskChangedEvent(Set.copyOf(taskIds), false, false);
+    }
+
+    /**
+     * The given rows and everything below them changed (subtree complete/delete)
+     */
+    public static TaskChangedEvent withSubtrees(Collection<Long> taskIds) {
+        return new TaskChangedEvent(Set.copyOf(taskIds), true, false);
+    }
+
+    /**
+     * Too much changed to track by id
+     */
+    public static TaskChangedEvent all() {
+        return new TaskChangedEvent(Set.of(), false, true);
+    }
+
+    public Set<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public boolean isIncludeSubtrees() {
+        return includeSubtrees;
+    }
+
+    public boolean isFullReload() {
+        return fullReload;
+    }
+}
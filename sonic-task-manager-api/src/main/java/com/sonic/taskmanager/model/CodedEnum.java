@@ -0,0 +1,47 @@
+package com.sonic.taskmanager.model;
+
+/**
+ * Task attribute enum with a stable integer code (what the database stores)
+ * and a lowercase value (what the API and older databases use)
+ * Codes double as the sort rank wherever the attribute is ordered on
+ */
+public interface CodedEnum {
+
+    int getCode();
+
+    String getValue();
+
+    /**
+     * Constant for an API value, ignoring case; null or blank gives null
+     */
+    static <E extends Enum<E> & CodedEnum> E fromValue(Class<E> type, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getValue().equalsIgnoreCase(value.trim())) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " '" + value + "'");
+    }
+
+    /**
+     * Constant for a stored code
+     */
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, int code) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code " + code);
+    }
+
+    /**
+     * Stored code of a possibly null constant
+     */
+    static Integer codeOf(CodedEnum constant) {
+        return constant != null ? constant.getCode() : null;
+    }
+}
@@ -1,15 +1,21 @@
 package com.sonic.taskmanager.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.sonic.taskmanager.model.id.PooledTableId;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "habitSession")
 @Table(name = "habit_sessions")
 public class HabitSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(sequence = "habit_sessions")
+    @Column(columnDefinition = "integer") // keeps id the SQLite rowid
     private Long id;
 
     @Column(name = "task_id", nullable = false)
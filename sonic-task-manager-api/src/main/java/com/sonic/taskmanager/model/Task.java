@@ -4,22 +4,40 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
+import com.sonic.taskmanager.model.id.PooledTableId;
+
 @Entity
-@Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
+@Table(name = "tasks", indexes = {
+    // Subtask lookups and per-parent status counts (findByParentId, main-task filters)
+    @Index(name = "idx_tasks_parent_status", columnList = "parent_id, status"),
+    // Overdue/urgent scans and deadline-ordered listings
+    @Index(name = "idx_tasks_parent_deadline", columnList = "parent_id, deadline"),
+    // Active task lookups (status + snooze window)
+    @Index(name = "idx_tasks_status_snoozed", columnList = "status, snoozed_until"),
+    // Reminders and other type-scoped queries ordered by recency
+    @Index(name = "idx_tasks_type_status_updated", columnList = "type, status, updated_at")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(sequence = "tasks")
+    @Column(columnDefinition = "integer") // keeps id the SQLite rowid
     private Long id;
 
     @Column(nullable = false)
@@ -28,17 +46,18 @@ public class Task {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Enum columns hold integer codes, see model.converter
     @Column(name = "type")
-    private String type; // deadline, habit, reminder, event
+    private TaskType type;
 
     @Column(name = "priority")
-    private String priority; // high, medium, low
+    private TaskPriority priority;
 
     @Column(name = "complexity")
-    private String complexity; // easy, medium, hard
+    private TaskComplexity complexity;
 
     @Column(name = "status")
-    private String status = "todo"; // todo, doing, done, snoozed
+    private TaskStatus status = TaskStatus.TODO;
 
     @Column(name = "progress_current")
     private Integer progressCurrent = 0;
@@ -49,6 +68,15 @@ public class Task {
     @Column(name = "parent_id")
     private Long parentId;
 
+    // Denormalized counters over direct subtasks, maintained by TaskService
+    @ColumnDefault("0")
+    @Column(name = "subtask_count", nullable = false)
+    private Integer subtaskCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "subtask_done_count", nullable = false)
+    private Integer subtaskDoneCount = 0;
+
     @Column(name = "deadline")
     private LocalDate deadline;
 
@@ -89,6 +117,33 @@ public class Task {
     public Task() {
     }
 
+    /**
+     * Detached copy of the persistent state, used by snapshots that must not share instances
+     */
+    public Task(Task other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.type = other.type;
+        this.priority = other.priority;
+        this.complexity = other.complexity;
+        this.status = other.status;
+        this.progressCurrent = other.progressCurrent;
+        this.progressTotal = other.progressTotal;
+        this.parentId = other.parentId;
+        this.subtaskCount = other.subtaskCount;
+        this.subtaskDoneCount = other.subtaskDoneCount;
+        this.deadline = other.deadline;
+        this.scheduledDate = other.scheduledDate;
+        this.completedAt = other.completedAt;
+        this.snoozedUntil = other.snoozedUntil;
+        this.focusContext = other.focusContext;
+        this.tags = other.tags;
+        this.context = other.context;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -125,35 +180,35 @@ public class Task {
         this.description = description;
     }
 
-    public String getType() {
+    public TaskType getType() {
         return type;
     }
 
-    public void setType(String type) {
+    public void setType(TaskType type) {
         this.type = type;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
-    public String getComplexity() {
+    public TaskComplexity getComplexity() {
         return complexity;
     }
 
-    public void setComplexity(String complexity) {
+    public void setComplexity(TaskComplexity complexity) {
         this.complexity = complexity;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
@@ -181,6 +236,22 @@ public class Task {
         this.parentId = parentId;
     }
 
+    public Integer getSubtaskCount() {
+        return subtaskCount;
+    }
+
+    public void setSubtaskCount(Integer subtaskCount) {
+        this.subtaskCount = subtaskCount;
+    }
+
+    public Integer getSubtaskDoneCount() {
+        return subtaskDoneCount;
+    }
+
+    public void setSubtaskDoneCount(Integer subtaskDoneCount) {
+        this.subtaskDoneCount = subtaskDoneCount;
+    }
+
     public LocalDate getDeadline() {
         return deadline;
     }
@@ -289,10 +360,13 @@ public class Task {
     }
 
     public boolean isCompleted() {
-        return "done".equals(status);
+        return status == TaskStatus.DONE;
     }
 
     public int getProgressPercentage() {
+        if (subtaskCount != null && subtaskCount > 0 && subtaskDoneCount != null) {
+            return Math.round((subtaskDoneCount.floatValue() / subtaskCount.floatValue()) * 100);
+        }
         if (progressTotal == null || progressTotal == 0) return 0;
         if (progressCurrent == null) return 0;
         return Math.round((progressCurrent.floatValue() / progressTotal.floatValue()) * 100);
@@ -301,10 +375,10 @@ public class Task {
     public String getComplexityLabel() {
         if (complexity == null) return "Unknown";
         switch (complexity) {
-            case "easy": return "Quick task";
-            case "medium": return "Work gradually";
-            case "hard": return "Needs focus";
-            default: return complexity;
+            case EASY: return "Quick task";
+            case MEDIUM: return "Work gradually";
+            case HARD: return "Needs focus";
+            default: return complexity.getValue();
         }
     }
 }
\ No newline at end of file
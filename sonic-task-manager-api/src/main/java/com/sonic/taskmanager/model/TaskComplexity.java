@@ -0,0 +1,39 @@
+package com.sonic.taskmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Task complexity; codes are the sort rank, easiest first
+ * Stored as the integer code (see TaskComplexityConverter), serialized as the lowercase value
+ */
+public enum TaskComplexity implements CodedEnum {
+
+    EASY(1, "easy"),
+    MEDIUM(2, "medium"),
+    HARD(3, "hard");
+
+    private final int code;
+    private final String value;
+
+    TaskComplexity(int code, String value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static TaskComplexity fromValue(String value) {
+        return CodedEnum.fromValue(TaskComplexity.class, value);
+    }
+}
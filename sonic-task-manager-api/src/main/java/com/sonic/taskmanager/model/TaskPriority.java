@@ -0,0 +1,39 @@
+package com.sonic.taskmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Task priority; codes are the sort rank, most important first
+ * Stored as the integer code (see TaskPriorityConverter), serialized as the lowercase value
+ */
+public enum TaskPriority implements CodedEnum {
+
+    HIGH(1, "high"),
+    MEDIUM(2, "medium"),
+    LOW(3, "low");
+
+    private final int code;
+    private final String value;
+
+    TaskPriority(int code, String value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static TaskPriority fromValue(String value) {
+        return CodedEnum.fromValue(TaskPriority.class, value);
+    }
+}
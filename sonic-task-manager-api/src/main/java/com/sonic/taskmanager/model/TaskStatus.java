@@ -0,0 +1,40 @@
+package com.sonic.taskmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Workflow state of a task
+ * Stored as the integer code (see TaskStatusConverter), serialized as the lowercase value
+ */
+public enum TaskStatus implements CodedEnum {
+
+    TODO(1, "todo"),
+    DOING(2, "doing"),
+    DONE(3, "done"),
+    SNOOZED(4, "snoozed");
+
+    private final int code;
+    private final String value;
+
+    TaskStatus(int code, String value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static TaskStatus fromValue(String value) {
+        return CodedEnum.fromValue(TaskStatus.class, value);
+    }
+}
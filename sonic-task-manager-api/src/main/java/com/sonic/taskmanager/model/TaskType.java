@@ -0,0 +1,40 @@
+package com.sonic.taskmanager.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Kind of task, which decides where the workspace shows it
+ * Stored as the integer code (see TaskTypeConverter), serialized as the lowercase value
+ */
+public enum TaskType implements CodedEnum {
+
+    DEADLINE(1, "deadline"),
+    HABIT(2, "habit"),
+    REMINDER(3, "reminder"),
+    EVENT(4, "event");
+
+    private final int code;
+    private final String value;
+
+    TaskType(int code, String value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static TaskType fromValue(String value) {
+        return CodedEnum.fromValue(TaskType.class, value);
+    }
+}
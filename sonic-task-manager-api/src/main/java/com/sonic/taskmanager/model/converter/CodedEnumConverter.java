@@ -0,0 +1,28 @@
+package com.sonic.taskmanager.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+
+import com.sonic.taskmanager.model.CodedEnum;
+
+/**
+ * Persists a CodedEnum as its integer code
+ * A one-byte INTEGER per row instead of a repeated string, and ORDER BY the column sorts by rank
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Integer> {
+
+    private final Class<E> type;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(E attribute) {
+        return CodedEnum.codeOf(attribute);
+    }
+
+    @Override
+    public E convertToEntityAttribute(Integer code) {
+        return code != null ? CodedEnum.fromCode(type, code) : null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sonic.taskmanager.model.converter;
+
+import jakarta.persistence.Converter;
+
+import com.sonic.taskmanager.model.TaskComplexity;
+
+@Converter(autoApply = true)
+public class TaskComplexityConverter extends CodedEnumConverter<TaskComplexity> {
+
+    public TaskComplexityConverter() {
+        super(TaskComplexity.class);
+    }
+}
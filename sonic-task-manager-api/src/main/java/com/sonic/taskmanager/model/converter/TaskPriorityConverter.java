@@ -0,0 +1,13 @@
+package com.sonic.taskmanager.model.converter;
+
+import jakarta.persistence.Converter;
+
+import com.sonic.taskmanager.model.TaskPriority;
+
+@Converter(autoApply = true)
+public class TaskPriorityConverter extends CodedEnumConverter<TaskPriority> {
+
+    public TaskPriorityConverter() {
+        super(TaskPriority.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sonic.taskmanager.model.converter;
+
+import jakarta.persistence.Converter;
+
+import com.sonic.taskmanager.model.TaskStatus;
+
+@Converter(autoApply = true)
+public class TaskStatusConverter extends CodedEnumConverter<TaskStatus> {
+
+    public TaskStatusConverter() {
+        super(TaskStatus.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sonic.taskmanager.model.converter;
+
+import jakarta.persistence.Converter;
+
+import com.sonic.taskmanager.model.TaskType;
+
+@Converter(autoApply = true)
+public class TaskTypeConverter extends CodedEnumConverter<TaskType> {
+
+    public TaskTypeConverter() {
+        super(TaskType.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sonic.taskmanager.model.dto;
+
+/**
+ * Counters for one second-level cache region
+ */
+public class CacheRegionStatsDto {
+    private String region;
+    private long hits;
+    private long misses;
+    private float hitPercentage;
+    private long puts;
+    private long removals;
+    private long evictions;
+
+    public CacheRegionStatsDto() {
+    }
+
+    public String getRegion() { return region; }
+    public void setRegion(String region) { this.region = region; }
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+    public float getHitPercentage() { return hitPercentage; }
+    public void setHitPercentage(float hitPercentage) { this.hitPercentage = hitPercentage; }
+    public long getPuts() { return puts; }
+    public void setPuts(long puts) { this.puts = puts; }
+    public long getRemovals() { return removals; }
+    public void setRemovals(long removals) { this.removals = removals; }
+    public long getEvictions() { return evictions; }
+    public void setEvictions(long evictions) { this.evictions = evictions; }
+}
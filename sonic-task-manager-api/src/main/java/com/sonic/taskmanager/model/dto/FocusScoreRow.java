@@ -0,0 +1,12 @@
+package com.sonic.taskmanager.model.dto;
+
+/**
+ * A task id with its stored static focus score (tasks.focus_score)
+ * Used by the top-N focus queries in TaskRepository
+ */
+public interface FocusScoreRow {
+
+    Long getId();
+
+    Double getFocusScore();
+}
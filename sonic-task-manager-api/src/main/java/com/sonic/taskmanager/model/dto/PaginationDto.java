@@ -16,6 +16,7 @@ public class PaginationDto {
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor; // keyset mode only
 
     public PaginationDto() {
     }
@@ -100,4 +101,12 @@ public class PaginationDto {
     public void setHasPrevious(boolean hasPrevious) {
         this.hasPrevious = hasPrevious;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.sonic.taskmanager.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for Studio task pages
+ * Holds the sort key of the last row returned: urgency bucket, priority rank, timestamp, id,
+ * plus what the page was listed under: a hash of the filters and the day it was issued
+ * (urgency buckets move at midnight, so a cursor from another day points at the wrong rows)
+ */
+public class TaskCursor {
+
+    // Sorts before every real row, so seeking after it returns the first page
+    public static final TaskCursor START =
+        new TaskCursor(0, 0, LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, 0, null);
+
+    private final int bucket;
+    private final int priorityRank;
+    private final LocalDateTime timestamp;
+    private final long id;
+    private final int filterHash;
+    private final LocalDate issuedOn;
+
+    public TaskCursor(int bucket, int priorityRank, LocalDateTime timestamp, long id,
+                      int filterHash, LocalDate issuedOn) {
+        this.bucket = bucket;
+        this.priorityRank = priorityRank;
+        this.timestamp = timestamp;
+        this.id = id;
+        this.filterHash = filterHash;
+        this.issuedOn = issuedOn;
+    }
+
+    /**
+     * Hash of the filters that shape a listing; stable across restarts (built from names, not identities)
+     */
+    public static int filterHash(TaskFilterDto filter) {
+        if (filter == null) {
+            return 0;
+        }
+        return String.join("|",
+            String.valueOf(filter.getStatus()),
+            String.valueOf(filter.getPriority()),
+            String.valueOf(filter.getComplexity()),
+            String.valueOf(filter.getType()),
+            String.valueOf(filter.getDeadlineFrom()),
+            String.valueOf(filter.getDeadlineTo()),
+            String.valueOf(filter.getHasSubtasks()),
+            String.valueOf(filter.getIsOverdue()),
+            String.valueOf(filter.getIsUrgent())
+        ).hashCode();
+    }
+
+    /**
+     * Reject a cursor issued under other filters or on another day
+     */
+    public void requireIssuedFor(int currentFilterHash, LocalDate today) {
+        if (this == START) {
+            return;
+        }
+        if (filterHash != currentFilterHash) {
+            throw new IllegalArgumentException("Cursor was issued for different filters, start again from the first page");
+        }
+        if (!today.equals(issuedOn)) {
+            throw new IllegalArgumentException("Cursor has expired, start again from the first page");
+        }
+    }
+
+    /**
+     * Encode as a URL-safe token
+     */
+    public String encode() {
+        String raw = bucket + "|" + priorityRank + "|" + timestamp + "|" + id + "|" + filterHash + "|" + issuedOn;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by encode(), blank means first page
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new TaskCursor(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                LocalDateTime.parse(parts[2]),
+                Long.parseLong(parts[3]),
+                Integer.parseInt(parts[4]),
+                LocalDate.parse(parts[5])
+            );
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public int getPriorityRank() {
+        return priorityRank;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getFilterHash() {
+        return filterHash;
+    }
+
+    public LocalDate getIssuedOn() {
+        return issuedOn;
+    }
+}
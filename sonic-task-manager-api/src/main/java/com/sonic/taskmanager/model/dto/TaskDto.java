@@ -1,17 +1,23 @@
 package com.sonic.taskmanager.model.dto;
 
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class TaskDto {
 
     private Long id;
     private String title;
     private String description;
-    private String type;
-    private String priority;
-    private String complexity;
-    private String status;
+    private TaskType type;
+    private TaskPriority priority;
+    private TaskComplexity complexity;
+    private TaskStatus status;
     private Integer progressCurrent;
     private Integer progressTotal;
     private Long parentId;
@@ -32,6 +38,9 @@ public class TaskDto {
     private boolean isOverdue;
     private boolean isUrgent;
 
+    // Nested subtree, only loaded for single-task reads
+    private List<TaskDto> subtasks;
+
     public TaskDto() {
     }
 
@@ -60,35 +69,35 @@ public class TaskDto {
         this.description = description;
     }
 
-    public String getType() {
+    public TaskType getType() {
         return type;
     }
 
-    public void setType(String type) {
+    public void setType(TaskType type) {
         this.type = type;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
-    public String getComplexity() {
+    public TaskComplexity getComplexity() {
         return complexity;
     }
 
-    public void setComplexity(String complexity) {
+    public void setComplexity(TaskComplexity complexity) {
         this.complexity = complexity;
     }
 
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
@@ -227,4 +236,12 @@ public class TaskDto {
     public void setUrgent(boolean isUrgent) {
         this.isUrgent = isUrgent;
     }
-}
\ No newline at end of file
+
+    public List<TaskDto> getSubtasks() {
+        return subtasks;
+    }
+
+    public void setSubtasks(List<TaskDto> subtasks) {
+        this.subtasks = subtasks;
+    }
+}
@@ -1,12 +1,17 @@
 package com.sonic.taskmanager.model.dto;
 
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+
 import java.time.LocalDate;
 
 public class TaskFilterDto {
-    private String status;
-    private String priority;
-    private String complexity;
-    private String type;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private TaskComplexity complexity;
+    private TaskType type;
     private LocalDate deadlineFrom;
     private LocalDate deadlineTo;
     private String searchQuery;
@@ -18,35 +23,35 @@ public class TaskFilterDto {
     }
 
     // Getters and Setters
-    public String getStatus() {
+    public TaskStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(TaskStatus status) {
         this.status = status;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
+    public void setPriority(TaskPriority priority) {
         this.priority = priority;
     }
 
-    public String getComplexity() {
+    public TaskComplexity getComplexity() {
         return complexity;
     }
 
-    public void setComplexity(String complexity) {
+    public void setComplexity(TaskComplexity complexity) {
         this.complexity = complexity;
     }
 
-    public String getType() {
+    public TaskType getType() {
         return type;
     }
 
-    public void setType(String type) {
+    public void setType(TaskType type) {
         this.type = type;
     }
 
@@ -0,0 +1,102 @@
+package com.sonic.taskmanager.model.dto;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns the workspace needs to score and filter a task, without the TEXT columns
+ * Used by the projection queries in TaskRepository
+ */
+public class TaskScoringRow {
+
+    private final Long id;
+    private final Long parentId;
+    private final TaskType type;
+    private final TaskPriority priority;
+    private final TaskComplexity complexity;
+    private final TaskStatus status;
+    private final LocalDate deadline;
+    private final LocalDateTime snoozedUntil;
+    private final Integer progressCurrent;
+    private final LocalDateTime updatedAt;
+
+    public TaskScoringRow(Long id, Long parentId, TaskType type, TaskPriority priority, TaskComplexity complexity,
+                          TaskStatus status, LocalDate deadline, LocalDateTime snoozedUntil,
+                          Integer progressCurrent, LocalDateTime updatedAt) {
+        this.id = id;
+        this.parentId = parentId;
+        this.type = type;
+        this.priority = priority;
+        this.complexity = complexity;
+        this.status = status;
+        this.deadline = deadline;
+        this.snoozedUntil = snoozedUntil;
+        this.progressCurrent = progressCurrent;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Partial Task carrying only these columns, for FocusCalculator and the workspace filters
+     * Never returned to clients; shown tasks are reloaded in full
+     */
+    public Task toTask() {
+        Task task = new Task();
+        task.setId(id);
+        task.setParentId(parentId);
+        task.setType(type);
+        task.setPriority(priority);
+        task.setComplexity(complexity);
+        task.setStatus(status);
+        task.setDeadline(deadline);
+        task.setSnoozedUntil(snoozedUntil);
+        task.setProgressCurrent(progressCurrent);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public TaskType getType() {
+        return type;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public TaskComplexity getComplexity() {
+        return complexity;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    public LocalDateTime getSnoozedUntil() {
+        return snoozedUntil;
+    }
+
+    public Integer getProgressCurrent() {
+        return progressCurrent;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sonic.taskmanager.model.dto;
+
+/**
+ * Task statistics for Studio dashboard
+ */
+public class TaskStatsDto {
+    private long totalTasks;
+    private long completedTasks;
+    private long overdueTasks;
+    private long urgentTasks;
+    private long highPriorityTasks;
+    private long mediumPriorityTasks;
+    private long lowPriorityTasks;
+    private long deadlineTasks;
+    private long habitTasks;
+    private long reminderTasks;
+    private long eventTasks;
+
+    public TaskStatsDto() {
+    }
+
+    /**
+     * Used by the single-pass aggregate query in TaskRepository
+     */
+    public TaskStatsDto(long totalTasks, long completedTasks, long overdueTasks, long urgentTasks,
+                        long highPriorityTasks, long mediumPriorityTasks, long lowPriorityTasks,
+                        long deadlineTasks, long habitTasks, long reminderTasks, long eventTasks) {
+        this.totalTasks = totalTasks;
+        this.completedTasks = completedTasks;
+        this.overdueTasks = overdueTasks;
+        this.urgentTasks = urgentTasks;
+        this.highPriorityTasks = highPriorityTasks;
+        this.mediumPriorityTasks = mediumPriorityTasks;
+        this.lowPriorityTasks = lowPriorityTasks;
+        this.deadlineTasks = deadlineTasks;
+        this.habitTasks = habitTasks;
+        this.reminderTasks = reminderTasks;
+        this.eventTasks = eventTasks;
+    }
+
+    // Getters and setters
+    public long getTotalTasks() { return totalTasks; }
+    public void setTotalTasks(long totalTasks) { this.totalTasks = totalTasks; }
+    public long getCompletedTasks() { return completedTasks; }
+    public void setCompletedTasks(long completedTasks) { this.completedTasks = completedTasks; }
+    public long getOverdueTasks() { return overdueTasks; }
+    public void setOverdueTasks(long overdueTasks) { this.overdueTasks = overdueTasks; }
+    public long getUrgentTasks() { return urgentTasks; }
+    public void setUrgentTasks(long urgentTasks) { this.urgentTasks = urgentTasks; }
+    public long getHighPriorityTasks() { return highPriorityTasks; }
+    public void setHighPriorityTasks(long highPriorityTasks) { this.highPriorityTasks = highPriorityTasks; }
+    public long getMediumPriorityTasks() { return mediumPriorityTasks; }
+    public void setMediumPriorityTasks(long mediumPriorityTasks) { this.mediumPriorityTasks = mediumPriorityTasks; }
+    public long getLowPriorityTasks() { return lowPriorityTasks; }
+    public void setLowPriorityTasks(long lowPriorityTasks) { this.lowPriorityTasks = lowPriorityTasks; }
+    public long getDeadlineTasks() { return deadlineTasks; }
+    public void setDeadlineTasks(long deadlineTasks) { this.deadlineTasks = deadlineTasks; }
+    public long getHabitTasks() { return habitTasks; }
+    public void setHabitTasks(long habitTasks) { this.habitTasks = habitTasks; }
+    public long getReminderTasks() { return reminderTasks; }
+    public void setReminderTasks(long reminderTasks) { this.reminderTasks = reminderTasks; }
+    public long getEventTasks() { return eventTasks; }
+    public void setEventTasks(long eventTasks) { this.eventTasks = eventTasks; }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.sonic.taskmanager.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sonic.taskmanager.model.Task;
+import java.util.List;
+
+/**
+ * One change to the workspace, pushed over /api/workspace/stream
+ * Only the fields relevant to the event name are set
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkspaceDeltaDto {
+
+    private Task focusTask;            // focus: new focus task, null when there is none
+    private List<Long> taskIds;        // next-up, quick-wins, reminders: full order after the change
+    private List<Task> tasks;          // next-up, quick-wins, reminders: tasks new to the list or changed
+    private List<Long> removed;        // next-up, quick-wins, reminders: ids no longer shown
+    private String dailyMood;          // mood
+    private WorkspaceDto.ShowSectionsDto showSections;             // overview
+    private WorkspaceDto.WorkloadAssessmentDto workloadAssessment; // overview
+
+    public WorkspaceDeltaDto() {
+    }
+
+    // Getters and Setters
+    public Task getFocusTask() {
+        return focusTask;
+    }
+
+    public void setFocusTask(Task focusTask) {
+        this.focusTask = focusTask;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Long> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<Long> removed) {
+        this.removed = removed;
+    }
+
+    public String getDailyMood() {
+        return dailyMood;
+    }
+
+    public void setDailyMood(String dailyMood) {
+        this.dailyMood = dailyMood;
+    }
+
+    public WorkspaceDto.ShowSectionsDto getShowSections() {
+        return showSections;
+    }
+
+    public void setShowSections(WorkspaceDto.ShowSectionsDto showSections) {
+        this.showSections = showSections;
+    }
+
+    public WorkspaceDto.WorkloadAssessmentDto getWorkloadAssessment() {
+        return workloadAssessment;
+    }
+
+    public void setWorkloadAssessment(WorkspaceDto.WorkloadAssessmentDto workloadAssessment) {
+        this.workloadAssessment = workloadAssessment;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sonic.taskmanager.model.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Assigns ids from blocks reserved in the id_sequences table, so inserts can be
+ * JDBC-batched (IDENTITY forces one INSERT per row to read back the key).
+ * The sequence name must match the entity's table; DatabaseSchemaInitializer
+ * creates the row and keeps it ahead of the highest existing id.
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledTableId {
+
+    // Row in id_sequences, named after the entity's table
+    String sequence();
+
+    // Ids reserved per round trip to id_sequences
+    int allocationSize() default 50;
+}
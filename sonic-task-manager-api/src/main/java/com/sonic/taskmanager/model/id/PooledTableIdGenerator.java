@@ -0,0 +1,72 @@
+package com.sonic.taskmanager.model.id;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Generator behind {@link PooledTableId}
+ *
+ * Hibernate's own table generator reserves blocks on a second connection, which
+ * would wait forever on the single-connection writer pool. This one reserves on
+ * the session's connection inside the current write transaction instead.
+ *
+ * A rolled-back reservation rewinds the table but not this generator, so each
+ * reservation starts from the higher of the two; a restart re-aligns the table
+ * with MAX(id) before anything is inserted.
+ */
+public class PooledTableIdGenerator implements IdentifierGenerator {
+
+    public static final String TABLE = "id_sequences";
+
+    private static final String RESERVE_SQL =
+        "UPDATE " + TABLE + " SET next_val = MAX(next_val, ?) + ? WHERE sequence_name = ?";
+    private static final String READ_SQL =
+        "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ?";
+
+    private final String sequence;
+    private final int allocationSize;
+
+    // Current block is [next, limit)
+    private long next;
+    private long limit;
+
+    public PooledTableIdGenerator(PooledTableId config) {
+        this.sequence = config.sequence();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        if (next >= limit) {
+            limit = reserveBlock(session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection());
+            next = limit - allocationSize;
+        }
+        return next++;
+    }
+
+    private long reserveBlock(Connection connection) {
+        try (PreparedStatement reserve = connection.prepareStatement(RESERVE_SQL);
+             PreparedStatement read = connection.prepareStatement(READ_SQL)) {
+            reserve.setLong(1, limit);
+            reserve.setInt(2, allocationSize);
+            reserve.setString(3, sequence);
+            if (reserve.executeUpdate() != 1) {
+                throw new IdentifierGenerationException("No " + TABLE + " row for sequence '" + sequence + "'");
+            }
+
+            read.setString(1, sequence);
+            try (ResultSet rs = read.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("Could not reserve ids for sequence '" + sequence + "'", e);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.sonic.taskmanager.model.request;
 
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -11,9 +15,9 @@ public class BulkUpdateRequest {
     private Integer snoozeDays;
     
     // For update operations
-    private String newStatus;
-    private String newPriority;
-    private String newComplexity;
+    private TaskStatus newStatus;
+    private TaskPriority newPriority;
+    private TaskComplexity newComplexity;
     private LocalDate newDeadline;
     
     public BulkUpdateRequest() {
@@ -44,27 +48,27 @@ public class BulkUpdateRequest {
         this.snoozeDays = snoozeDays;
     }
 
-    public String getNewStatus() {
+    public TaskStatus getNewStatus() {
         return newStatus;
     }
 
-    public void setNewStatus(String newStatus) {
+    public void setNewStatus(TaskStatus newStatus) {
         this.newStatus = newStatus;
     }
 
-    public String getNewPriority() {
+    public TaskPriority getNewPriority() {
         return newPriority;
     }
 
-    public void setNewPriority(String newPriority) {
+    public void setNewPriority(TaskPriority newPriority) {
         this.newPriority = newPriority;
     }
 
-    public String getNewComplexity() {
+    public TaskComplexity getNewComplexity() {
         return newComplexity;
     }
 
-    public void setNewComplexity(String newComplexity) {
+    public void setNewComplexity(TaskComplexity newComplexity) {
         this.newComplexity = newComplexity;
     }
 
@@ -1,5 +1,9 @@
 package com.sonic.taskmanager.model.request;
 
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskType;
+
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDate;
 
@@ -7,9 +11,9 @@ public class CreateTaskRequest {
     @NotBlank(message = "Title is required")
     private String title;
     private String description;
-    private String type = "deadline";
-    private String priority = "medium";
-    private String complexity = "medium";
+    private TaskType type = TaskType.DEADLINE;
+    private TaskPriority priority = TaskPriority.MEDIUM;
+    private TaskComplexity complexity = TaskComplexity.MEDIUM;
     private Long parentId;
     private LocalDate deadline;
     private LocalDate scheduledDate;
@@ -24,12 +28,12 @@ public class CreateTaskRequest {
     public void setTitle(String title) { this.title = title; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
-    public String getType() { return type; }
-    public void setType(String type) { this.type = type; }
-    public String getPriority() { return priority; }
-    public void setPriority(String priority) { this.priority = priority; }
-    public String getComplexity() { return complexity; }
-    public void setComplexity(String complexity) { this.complexity = complexity; }
+    public TaskType getType() { return type; }
+    public void setType(TaskType type) { this.type = type; }
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+    public TaskComplexity getComplexity() { return complexity; }
+    public void setComplexity(TaskComplexity complexity) { this.complexity = complexity; }
     public Long getParentId() { return parentId; }
     public void setParentId(Long parentId) { this.parentId = parentId; }
     public LocalDate getDeadline() { return deadline; }
@@ -0,0 +1,16 @@
+package com.sonic.taskmanager.model.response;
+
+import java.util.List;
+
+import com.sonic.taskmanager.model.dto.CacheRegionStatsDto;
+
+public class CacheStatsResponse extends BaseResponse {
+    private List<CacheRegionStatsDto> regions;
+
+    public CacheStatsResponse() {
+        super();
+    }
+
+    public List<CacheRegionStatsDto> getRegions() { return regions; }
+    public void setRegions(List<CacheRegionStatsDto> regions) { this.regions = regions; }
+}
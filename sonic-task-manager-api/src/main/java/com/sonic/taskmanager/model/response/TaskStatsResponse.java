@@ -0,0 +1,14 @@
+package com.sonic.taskmanager.model.response;
+
+import com.sonic.taskmanager.model.dto.TaskStatsDto;
+
+public class TaskStatsResponse extends BaseResponse {
+    private TaskStatsDto stats;
+
+    public TaskStatsResponse() {
+        super();
+    }
+
+    public TaskStatsDto getStats() { return stats; }
+    public void setStats(TaskStatsDto stats) { this.stats = stats; }
+}
@@ -0,0 +1,138 @@
+package com.sonic.taskmanager.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.util.FocusScoringModel;
+
+/**
+ * The static (date-independent) part of each task's focus score, kept in tasks.focus_score
+ *
+ * The points per priority, complexity and status flag combination live in focus_score_points,
+ * written from the current FocusScoringModel. Triggers recompute a row's score whenever one of
+ * its scoring columns is written, whichever path the write takes (entity, JPQL bulk or native).
+ * A partial index over open main tasks orders them by that score for the top-N queries in
+ * TaskRepository; the deadline part is added per urgency bucket (see FocusRankingService).
+ */
+@Repository
+public class FocusScoreStore {
+
+    public static final String POINTS_TABLE = "focus_score_points";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FocusScoreStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Column, points table, triggers and index; scores rows that have none yet
+     * The points start out as the given model's if the table is empty
+     */
+    public void initialize(FocusScoringModel defaults) {
+        Integer hasColumn = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pragma_table_info('tasks') WHERE name = 'focus_score'", Integer.class);
+        if (hasColumn == null || hasColumn == 0) {
+            jdbcTemplate.execute("ALTER TABLE tasks ADD COLUMN focus_score REAL");
+        }
+
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS " + POINTS_TABLE + " (" +
+            "part INTEGER NOT NULL, code INTEGER NOT NULL, points REAL NOT NULL, " +
+            "PRIMARY KEY (part, code)) WITHOUT ROWID");
+        Integer points = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + POINTS_TABLE, Integer.class);
+        if (points == null || points == 0) {
+            insertPoints(defaults);
+        }
+
+        jdbcTemplate.execute(
+            "CREATE TRIGGER IF NOT EXISTS tasks_focus_score_insert AFTER INSERT ON tasks BEGIN " +
+            "UPDATE tasks SET focus_score = " + scoreExpression("new.") + " WHERE id = new.id; END");
+
+        jdbcTemplate.execute(
+            "CREATE TRIGGER IF NOT EXISTS tasks_focus_score_update " +
+            "AFTER UPDATE OF priority, complexity, status, progress_current, snoozed_until ON tasks BEGIN " +
+            "UPDATE tasks SET focus_score = " + scoreExpression("new.") + " WHERE id = new.id; END");
+
+        // TaskRepository.TOP_FOCUS names this index and repeats its condition
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS idx_tasks_open_focus_score ON tasks (focus_score DESC, id) " +
+            "WHERE parent_id IS NULL AND status <> " + TaskRepository.DONE_CODE);
+
+        jdbcTemplate.update("UPDATE tasks SET focus_score = " + scoreExpression("") + " WHERE focus_score IS NULL");
+    }
+
+    /**
+     * Store the model's points and rescore every task, unless they are stored already
+     * Returns whether anything changed
+     */
+    @Transactional
+    public boolean applyModel(FocusScoringModel model) {
+        Map<Long, Double> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT part, code, points FROM " + POINTS_TABLE,
+            rs -> {
+                stored.put(key(rs.getInt("part"), rs.getInt("code")), rs.getDouble("points"));
+            });
+        Map<Long, Double> wanted = new HashMap<>();
+        model.staticParts().forEach((part, points) -> {
+            for (int code = 0; code < points.length; code++) {
+                wanted.put(key(part, code), points[code]);
+            }
+        });
+        if (stored.equals(wanted)) {
+            return false;
+        }
+
+        jdbcTemplate.update("DELETE FROM " + POINTS_TABLE);
+        insertPoints(model);
+        rescoreAll();
+        return true;
+    }
+
+    /**
+     * Recompute every stored score from the current points
+     */
+    @Transactional
+    public void rescoreAll() {
+        jdbcTemplate.update("UPDATE tasks SET focus_score = " + scoreExpression(""));
+    }
+
+    private void insertPoints(FocusScoringModel model) {
+        List<Object[]> rows = new ArrayList<>();
+        model.staticParts().forEach((part, points) -> {
+            for (int code = 0; code < points.length; code++) {
+                rows.add(new Object[] {part, code, points[code]});
+            }
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO " + POINTS_TABLE + " (part, code, points) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * Static score of a row: priority, complexity and flag points (exact sums, see FocusScoringModel)
+     * row is the column prefix: "new." inside triggers, "" in a plain UPDATE
+     */
+    private static String scoreExpression(String row) {
+        String flags =
+            "(CASE WHEN " + row + "status = " + TaskStatus.DOING.getCode() + " THEN " + FocusScoringModel.STARTED + " ELSE 0 END" +
+            " + CASE WHEN COALESCE(" + row + "progress_current, 0) > 0 THEN " + FocusScoringModel.PROGRESSED + " ELSE 0 END" +
+            " + CASE WHEN " + row + "snoozed_until IS NOT NULL THEN " + FocusScoringModel.SNOOZED + " ELSE 0 END)";
+        return "(" + points(FocusScoringModel.PRIORITY_PART, "COALESCE(" + row + "priority, 0)") +
+               " + " + points(FocusScoringModel.COMPLEXITY_PART, "COALESCE(" + row + "complexity, 0)") +
+               " + " + points(FocusScoringModel.FLAGS_PART, flags) + ")";
+    }
+
+    private static String points(int part, String code) {
+        return "(SELECT points FROM " + POINTS_TABLE + " WHERE part = " + part + " AND code = " + code + ")";
+    }
+
+    private static long key(int part, int code) {
+        return ((long) part << 32) | code;
+    }
+}
@@ -1,17 +1,28 @@
 package com.sonic.taskmanager.repository;
 
 import com.sonic.taskmanager.model.Preferences;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PreferencesRepository extends JpaRepository<Preferences, String> {
 
     // Find preference by key
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Preferences> findByKey(String key);
 
     // Check if preference exists
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByKey(String key);
+
+    // All preferences, served from the query cache between writes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Preferences> findAll();
 }
\ No newline at end of file
@@ -2,85 +2,197 @@ package com.sonic.taskmanager.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.FocusScoreRow;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
+import com.sonic.taskmanager.model.dto.TaskStatsDto;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // Enum literals for JPQL; the converters store them as their integer codes
+    String TODO = "com.sonic.taskmanager.model.TaskStatus.TODO";
+    String DOING = "com.sonic.taskmanager.model.TaskStatus.DOING";
+    String DONE = "com.sonic.taskmanager.model.TaskStatus.DONE";
+    String SNOOZED = "com.sonic.taskmanager.model.TaskStatus.SNOOZED";
+    String HIGH = "com.sonic.taskmanager.model.TaskPriority.HIGH";
+    String MEDIUM = "com.sonic.taskmanager.model.TaskPriority.MEDIUM";
+    String LOW = "com.sonic.taskmanager.model.TaskPriority.LOW";
+    String EASY = "com.sonic.taskmanager.model.TaskComplexity.EASY";
+    String HARD = "com.sonic.taskmanager.model.TaskComplexity.HARD";
+    String DEADLINE = "com.sonic.taskmanager.model.TaskType.DEADLINE";
+    String HABIT = "com.sonic.taskmanager.model.TaskType.HABIT";
+    String REMINDER = "com.sonic.taskmanager.model.TaskType.REMINDER";
+    String EVENT = "com.sonic.taskmanager.model.TaskType.EVENT";
+
+    // TaskStatus.DONE code, for native SQL
+    String DONE_CODE = "3";
+
+    // Every status but DONE, spelled out so idx_tasks_status_snoozed can seek it (status != DONE
+    // can't); NULL stays excluded either way. A new TaskStatus that counts as open goes here too.
+    String OPEN_STATUSES = "(" + TODO + ", " + DOING + ", " + SNOOZED + ")";
+
+    // Smart-order sort keys shared by the keyset queries (1 sorts first)
+    String URGENCY_BUCKET =
+           "CASE WHEN t.deadline IS NOT NULL AND t.deadline < :today THEN 1 " +
+           "WHEN t.deadline IS NOT NULL AND t.deadline <= :urgent THEN 2 ELSE 3 END";
+
+    // Priority codes are the rank; no priority ranks with low
+    String PRIORITY_RANK = "COALESCE(t.priority, " + LOW + ")";
+
+    // Studio filter on main tasks, JPQL form
+    String TASK_FILTER =
+           "t.parentId IS NULL AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:complexity IS NULL OR t.complexity = :complexity) AND " +
+           "(:type IS NULL OR t.type = :type) AND " +
+           "(:deadlineFrom IS NULL OR t.deadline IS NULL OR t.deadline >= :deadlineFrom) AND " +
+           "(:deadlineTo IS NULL OR t.deadline IS NULL OR t.deadline <= :deadlineTo)";
+
+    // Shared WHERE clause for the native full-text search queries (enum filters bound as codes)
+    String TASK_SEARCH_FILTER =
+           "t.parent_id IS NULL AND " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:complexity IS NULL OR t.complexity = :complexity) AND " +
+           "(:type IS NULL OR t.type = :type) AND " +
+           "(:deadlineFrom IS NULL OR t.deadline IS NULL OR t.deadline >= :deadlineFrom) AND " +
+           "(:deadlineTo IS NULL OR t.deadline IS NULL OR t.deadline <= :deadlineTo) ";
+
+    // Recursive CTE over the given roots plus all of their descendants; UNION guards against cycles
+    String SUBTREE_OF_ROOTS =
+           "subtree(id) AS (" +
+           "SELECT id FROM tasks WHERE id IN (:rootIds) " +
+           "UNION SELECT c.id FROM tasks c JOIN subtree s ON c.parent_id = s.id) ";
+
+    // Upper bound on hierarchy depth walked by the ancestor/descendant CTEs
+    int MAX_DEPTH = 64;
+
     // Find active tasks (not completed, not snoozed)
-    @Query("SELECT t FROM Task t WHERE t.status != 'done' AND (t.snoozedUntil IS NULL OR t.snoozedUntil <= :now)")
+    @Query("SELECT t FROM Task t WHERE t.status IN " + OPEN_STATUSES + " AND (t.snoozedUntil IS NULL OR t.snoozedUntil <= :now)")
     List<Task> findActiveTasks(@Param("now") LocalDateTime now);
 
+    // Scoring columns only (no TEXT columns), see TaskScoringRow
+    String SCORING_ROW =
+           "SELECT new com.sonic.taskmanager.model.dto.TaskScoringRow(" +
+           "t.id, t.parentId, t.type, t.priority, t.complexity, t.status, " +
+           "t.deadline, t.snoozedUntil, t.progressCurrent, t.updatedAt) FROM Task t ";
+
+    // All open tasks, snoozed included, in a stable order for in-memory workspace builds
+    @Query(SCORING_ROW + "WHERE t.status IN " + OPEN_STATUSES + " ORDER BY t.id")
+    List<TaskScoringRow> findOpenScoringRows();
+
+    // Open main tasks outside their snooze window, best stored focus_score first (see FocusScoreStore)
+    // Walks the partial index in score order and stops after :limit matches; left to itself the
+    // planner picks the deadline index and sorts the whole bucket (about 40x slower at 50k tasks).
+    // The first two conditions are the index's own, which INDEXED BY requires.
+    String TOP_FOCUS =
+           "SELECT t.id AS id, t.focus_score AS focusScore FROM tasks t INDEXED BY idx_tasks_open_focus_score " +
+           "WHERE t.parent_id IS NULL AND t.status <> " + DONE_CODE + " " +
+           "AND (t.snoozed_until IS NULL OR t.snoozed_until <= :now) " +
+           "AND (:excludedType IS NULL OR t.type IS NOT :excludedType) AND ";
+    String TOP_FOCUS_ORDER = " ORDER BY t.focus_score DESC, t.id LIMIT :limit";
+
+    // Top tasks without a deadline (no urgency points)
+    @Query(value = TOP_FOCUS + "t.deadline IS NULL" + TOP_FOCUS_ORDER, nativeQuery = true)
+    List<FocusScoreRow> findTopFocusWithoutDeadline(@Param("now") LocalDateTime now,
+                                                    @Param("excludedType") Integer excludedType,
+                                                    @Param("limit") int limit);
+
+    // Top tasks due in one urgency bucket; a null bound leaves that side open
+    @Query(value = TOP_FOCUS + "t.deadline IS NOT NULL " +
+           "AND (:firstDay IS NULL OR t.deadline >= :firstDay) " +
+           "AND (:lastDay IS NULL OR t.deadline <= :lastDay)" + TOP_FOCUS_ORDER, nativeQuery = true)
+    List<FocusScoreRow> findTopFocusDueBetween(@Param("firstDay") LocalDate firstDay,
+                                               @Param("lastDay") LocalDate lastDay,
+                                               @Param("now") LocalDateTime now,
+                                               @Param("excludedType") Integer excludedType,
+                                               @Param("limit") int limit);
+
+    // Scoring rows for the given ids (rows that no longer exist are simply missing)
+    @Query(SCORING_ROW + "WHERE t.id IN :taskIds")
+    List<TaskScoringRow> findScoringRowsByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
     // Find tasks by status
-    List<Task> findByStatus(String status);
+    List<Task> findByStatus(TaskStatus status);
 
     // Find tasks by type
-    List<Task> findByType(String type);
+    List<Task> findByType(TaskType type);
     
     Optional<Task> findByTitle(String title);
 
     // Find main tasks (no parent)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Task> findByParentIdIsNull();
 
     // Find subtasks by parent ID
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Task> findByParentId(Long parentId);
 
-    // Find tasks with deadline before a certain date
-    @Query("SELECT t FROM Task t WHERE t.deadline IS NOT NULL AND t.deadline <= :date AND t.status != 'done'")
-    List<Task> findTasksWithDeadlineBefore(@Param("date") LocalDate date);
-
-    // Find overdue tasks
-    @Query("SELECT t FROM Task t WHERE t.deadline IS NOT NULL AND t.deadline < :today AND t.status != 'done'")
-    List<Task> findOverdueTasks(@Param("today") LocalDate today);
-
-    // Find urgent tasks (deadline within days)
-    @Query("SELECT t FROM Task t WHERE t.deadline IS NOT NULL AND t.deadline BETWEEN :today AND :urgentDate AND t.status != 'done'")
-    List<Task> findUrgentTasks(@Param("today") LocalDate today, @Param("urgentDate") LocalDate urgentDate);
+    // Find the subtasks of several parents at once (grouped by SubtaskLoader)
+    @Query("SELECT t FROM Task t WHERE t.parentId IN :parentIds ORDER BY t.id")
+    List<Task> findByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
 
     // Find high priority + easy tasks (quick wins)
-    @Query("SELECT t FROM Task t WHERE t.priority = 'high' AND t.complexity = 'easy' AND t.status = 'todo' AND t.parentId IS NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.priority = " + HIGH + " AND t.complexity = " + EASY + " AND t.status = " + TODO + " AND t.parentId IS NULL")
     List<Task> findQuickWinTasks();
 
     // Find reminders that should be shown
-    @Query("SELECT t FROM Task t WHERE t.type = 'reminder' AND t.status = 'todo' " +
+    @Query("SELECT t FROM Task t WHERE t.type = " + REMINDER + " AND t.status = " + TODO + " " +
            "AND (t.snoozedUntil IS NULL OR t.snoozedUntil <= :now) " +
            "AND t.updatedAt <= :reminderThreshold")
     List<Task> findActiveReminders(@Param("now") LocalDateTime now, @Param("reminderThreshold") LocalDateTime reminderThreshold);
 
     // Find tasks completed today
-    @Query("SELECT t FROM Task t WHERE t.status = 'done' AND DATE(t.completedAt) = :today")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.status = " + DONE + " AND DATE(t.completedAt) = :today")
     List<Task> findTasksCompletedToday(@Param("today") LocalDate today);
 
     // Find tasks by priority and status
     @Query("SELECT t FROM Task t WHERE t.priority = :priority AND t.status = :status AND t.parentId IS NULL")
-    List<Task> findByPriorityAndStatus(@Param("priority") String priority, @Param("status") String status);
+    List<Task> findByPriorityAndStatus(@Param("priority") TaskPriority priority, @Param("status") TaskStatus status);
 
     // Find tasks that need focus calculation (high priority, not completed)
-    @Query("SELECT t FROM Task t WHERE t.status IN ('todo', 'doing') AND t.parentId IS NULL " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.status IN (" + TODO + ", " + DOING + ") AND t.parentId IS NULL " +
            "ORDER BY " +
-           "CASE t.priority WHEN 'high' THEN 1 WHEN 'medium' THEN 2 ELSE 3 END, " +
+           PRIORITY_RANK + ", " +
            "CASE WHEN t.deadline < :today THEN 1 " +
            "     WHEN t.deadline <= :urgent THEN 2 " +
            "     ELSE 3 END, " +
-           "CASE t.complexity WHEN 'easy' THEN 1 WHEN 'medium' THEN 2 ELSE 3 END")
+           "COALESCE(t.complexity, " + HARD + ")")
     List<Task> findTasksForFocusCalculation(@Param("today") LocalDate today, @Param("urgent") LocalDate urgent);
 
     // Count tasks by status
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
-    long countTasksByStatus(@Param("status") String status);
+    long countTasksByStatus(@Param("status") TaskStatus status);
 
     // Find habit tasks
-    @Query("SELECT t FROM Task t WHERE t.type = 'habit' AND t.status = 'todo'")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.type = " + HABIT + " AND t.status = " + TODO)
     List<Task> findHabitTasks();
 
     // === STUDIO/PAGINATION SUPPORT - NEW METHODS ===
@@ -90,7 +202,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
            "CASE WHEN t.deadline IS NOT NULL AND t.deadline < :today THEN 1 " +
            "     WHEN t.deadline IS NOT NULL AND t.deadline <= :urgent THEN 2 " +
            "     ELSE 3 END, " +
-           "CASE t.priority WHEN 'high' THEN 1 WHEN 'medium' THEN 2 ELSE 3 END, " +
+           PRIORITY_RANK + ", " +
            "t.createdAt DESC")
     Page<Task> findAllMainTasksPaginated(@Param("today") LocalDate today, 
                                         @Param("urgent") LocalDate urgent, 
@@ -104,37 +216,210 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
            "(:complexity IS NULL OR t.complexity = :complexity) AND " +
            "(:type IS NULL OR t.type = :type) AND " +
            "(:deadlineFrom IS NULL OR t.deadline IS NULL OR t.deadline >= :deadlineFrom) AND " +
-           "(:deadlineTo IS NULL OR t.deadline IS NULL OR t.deadline <= :deadlineTo) AND " +
-           "(:searchQuery IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :searchQuery, '%')) OR " +
-           " LOWER(t.description) LIKE LOWER(CONCAT('%', :searchQuery, '%'))) " +
+           "(:deadlineTo IS NULL OR t.deadline IS NULL OR t.deadline <= :deadlineTo) " +
            "ORDER BY " +
            "CASE WHEN t.deadline IS NOT NULL AND t.deadline < :today THEN 1 " +
            "     WHEN t.deadline IS NOT NULL AND t.deadline <= :urgent THEN 2 " +
            "     ELSE 3 END, " +
-           "CASE t.priority WHEN 'high' THEN 1 WHEN 'medium' THEN 2 ELSE 3 END, " +
+           PRIORITY_RANK + ", " +
            "t.updatedAt DESC")
-    Page<Task> findTasksWithFilter(@Param("status") String status,
-                                  @Param("priority") String priority,
-                                  @Param("complexity") String complexity,
-                                  @Param("type") String type,
+    Page<Task> findTasksWithFilter(@Param("status") TaskStatus status,
+                                  @Param("priority") TaskPriority priority,
+                                  @Param("complexity") TaskComplexity complexity,
+                                  @Param("type") TaskType type,
                                   @Param("deadlineFrom") LocalDate deadlineFrom,
                                   @Param("deadlineTo") LocalDate deadlineTo,
-                                  @Param("searchQuery") String searchQuery,
                                   @Param("today") LocalDate today,
                                   @Param("urgent") LocalDate urgent,
                                   Pageable pageable);
 
+    // Keyset (seek) pages in the same smart order as findAllMainTasksPaginated,
+    // continuing after the (urgency bucket, priority rank, createdAt, id) of the last row seen.
+    // The bucket is relative to :today, so no index holds this order: SQLite reads every main
+    // task through idx_tasks_parent_status and keeps the top rows in a sorter. What the seek
+    // saves over OFFSET is the skipped rows, not the read.
+    @Query("SELECT t FROM Task t WHERE t.parentId IS NULL AND " +
+           "(" + URGENCY_BUCKET + " > :bucket OR (" + URGENCY_BUCKET + " = :bucket AND " +
+           " (" + PRIORITY_RANK + " > :priorityRank OR (" + PRIORITY_RANK + " = :priorityRank AND " +
+           "  (t.createdAt < :timestamp OR (t.createdAt = :timestamp AND t.id < :lastId)))))) " +
+           "ORDER BY " + URGENCY_BUCKET + ", " + PRIORITY_RANK + ", t.createdAt DESC, t.id DESC")
+    List<Task> findMainTasksAfter(@Param("today") LocalDate today,
+                                  @Param("urgent") LocalDate urgent,
+                                  @Param("bucket") int bucket,
+                                  @Param("priorityRank") TaskPriority priorityRank,
+                                  @Param("timestamp") LocalDateTime timestamp,
+                                  @Param("lastId") Long lastId,
+                                  Limit limit);
+
+    // Keyset variant of findTasksWithFilter, ordered by updatedAt within a priority rank
+    @Query("SELECT t FROM Task t WHERE " + TASK_FILTER + " AND " +
+           "(" + URGENCY_BUCKET + " > :bucket OR (" + URGENCY_BUCKET + " = :bucket AND " +
+           " (" + PRIORITY_RANK + " > :priorityRank OR (" + PRIORITY_RANK + " = :priorityRank AND " +
+           "  (t.updatedAt < :timestamp OR (t.updatedAt = :timestamp AND t.id < :lastId)))))) " +
+           "ORDER BY " + URGENCY_BUCKET + ", " + PRIORITY_RANK + ", t.updatedAt DESC, t.id DESC")
+    List<Task> findTasksWithFilterAfter(@Param("status") TaskStatus status,
+                                        @Param("priority") TaskPriority priority,
+                                        @Param("complexity") TaskComplexity complexity,
+                                        @Param("type") TaskType type,
+                                        @Param("deadlineFrom") LocalDate deadlineFrom,
+                                        @Param("deadlineTo") LocalDate deadlineTo,
+                                        @Param("today") LocalDate today,
+                                        @Param("urgent") LocalDate urgent,
+                                        @Param("bucket") int bucket,
+                                        @Param("priorityRank") TaskPriority priorityRank,
+                                        @Param("timestamp") LocalDateTime timestamp,
+                                        @Param("lastId") Long lastId,
+                                        Limit limit);
+
+    // Opt-in totals for keyset pages
+    long countByParentIdIsNull();
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE " + TASK_FILTER)
+    long countTasksWithFilter(@Param("status") TaskStatus status,
+                              @Param("priority") TaskPriority priority,
+                              @Param("complexity") TaskComplexity complexity,
+                              @Param("type") TaskType type,
+                              @Param("deadlineFrom") LocalDate deadlineFrom,
+                              @Param("deadlineTo") LocalDate deadlineTo);
+
+    // Full-text search over the tasks_fts index, best BM25 match first
+    // (title weighs most, then tags, context and description). Pass an unsorted Pageable.
+    @Query(value = "SELECT t.* FROM tasks t JOIN tasks_fts ON tasks_fts.rowid = t.id " +
+           "WHERE tasks_fts MATCH :matchExpression AND " +
+           TASK_SEARCH_FILTER +
+           "ORDER BY bm25(tasks_fts, 10.0, 1.0, 5.0, 2.0), t.updated_at DESC",
+           countQuery = "SELECT COUNT(*) FROM tasks t JOIN tasks_fts ON tasks_fts.rowid = t.id " +
+           "WHERE tasks_fts MATCH :matchExpression AND " +
+           TASK_SEARCH_FILTER,
+           nativeQuery = true)
+    Page<Task> searchTasksWithFilter(@Param("matchExpression") String matchExpression,
+                                    @Param("status") Integer status,
+                                    @Param("priority") Integer priority,
+                                    @Param("complexity") Integer complexity,
+                                    @Param("type") Integer type,
+                                    @Param("deadlineFrom") LocalDate deadlineFrom,
+                                    @Param("deadlineTo") LocalDate deadlineTo,
+                                    Pageable pageable);
+
     // Count tasks by various criteria for analytics
     @Query("SELECT COUNT(t) FROM Task t WHERE t.parentId IS NULL AND t.status = :status")
-    long countMainTasksByStatus(@Param("status") String status);
+    long countMainTasksByStatus(@Param("status") TaskStatus status);
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.parentId IS NULL AND t.priority = :priority")
-    long countMainTasksByPriority(@Param("priority") String priority);
+    long countMainTasksByPriority(@Param("priority") TaskPriority priority);
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.parentId IS NULL AND t.type = :type")
-    long countMainTasksByType(@Param("type") String type);
+    long countMainTasksByType(@Param("type") TaskType type);
+
+    // All Studio statistics in one pass: main-task counts plus overdue/urgent over every open task
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.sonic.taskmanager.model.dto.TaskStatsDto(" +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.status IN (" + TODO + ", " + DOING + ") THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.status = " + DONE + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.deadline IS NOT NULL AND t.deadline < :today AND t.status != " + DONE + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.deadline IS NOT NULL AND t.deadline BETWEEN :today AND :urgentDate AND t.status != " + DONE + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.priority = " + HIGH + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.priority = " + MEDIUM + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.priority = " + LOW + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.type = " + DEADLINE + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.type = " + HABIT + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.type = " + REMINDER + " THEN 1 ELSE 0 END), 0L), " +
+           "COALESCE(SUM(CASE WHEN t.parentId IS NULL AND t.type = " + EVENT + " THEN 1 ELSE 0 END), 0L)) " +
+           "FROM Task t")
+    TaskStatsDto aggregateTaskStatistics(@Param("today") LocalDate today, @Param("urgentDate") LocalDate urgentDate);
 
     // Find tasks by multiple IDs (for bulk operations)
     @Query("SELECT t FROM Task t WHERE t.id IN :taskIds")
     List<Task> findByIdIn(@Param("taskIds") List<Long> taskIds);
-}
\ No newline at end of file
+
+    // === SET-BASED BULK OPERATIONS ===
+    // Bulk statements skip entity callbacks, so updatedAt is set explicitly
+
+    // Complete the given tasks and everything below them; counters of the completed rows become full
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH RECURSIVE " + SUBTREE_OF_ROOTS +
+           "UPDATE tasks SET status = " + DONE_CODE + ", " +
+           "completed_at = CASE WHEN status = " + DONE_CODE + " AND completed_at IS NOT NULL THEN completed_at ELSE :now END, " +
+           "progress_current = progress_total, subtask_done_count = subtask_count, updated_at = :now " +
+           "WHERE id IN (SELECT id FROM subtree) " +
+           "AND (status != " + DONE_CODE + " OR subtask_done_count != subtask_count)",
+           nativeQuery = true)
+    int completeSubtrees(@Param("rootIds") Collection<Long> rootIds, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = " + SNOOZED + ", t.snoozedUntil = :until, t.updatedAt = :now WHERE t.id IN :taskIds")
+    int snoozeByIds(@Param("taskIds") List<Long> taskIds, @Param("until") LocalDateTime until,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now WHERE t.id IN :taskIds")
+    int updateStatusByIds(@Param("taskIds") List<Long> taskIds, @Param("status") TaskStatus status,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :now WHERE t.id IN :taskIds")
+    int updatePriorityByIds(@Param("taskIds") List<Long> taskIds, @Param("priority") TaskPriority priority,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.complexity = :complexity, t.updatedAt = :now WHERE t.id IN :taskIds")
+    int updateComplexityByIds(@Param("taskIds") List<Long> taskIds, @Param("complexity") TaskComplexity complexity,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deadline = :deadline, t.updatedAt = :now WHERE t.id IN :taskIds")
+    int updateDeadlineByIds(@Param("taskIds") List<Long> taskIds, @Param("deadline") LocalDate deadline,
+                            @Param("now") LocalDateTime now);
+
+    // === SUBTASK COUNTERS ===
+
+    // Recount the counters of the given parents from their subtasks
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task p SET " +
+           "p.subtaskCount = (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id), " +
+           "p.subtaskDoneCount = (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id AND s.status = " + DONE + ") " +
+           "WHERE p.id IN :parentIds")
+    int recountSubtasks(@Param("parentIds") Collection<Long> parentIds);
+
+    // Repair every row whose counters drifted from its subtasks, returns rows fixed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task p SET " +
+           "p.subtaskCount = (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id), " +
+           "p.subtaskDoneCount = (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id AND s.status = " + DONE + ") " +
+           "WHERE p.subtaskCount IS NULL OR p.subtaskDoneCount IS NULL " +
+           "OR p.subtaskCount != (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id) " +
+           "OR p.subtaskDoneCount != (SELECT COUNT(s) FROM Task s WHERE s.parentId = p.id AND s.status = " + DONE + ")")
+    int repairSubtaskCounters();
+
+    // === HIERARCHY ===
+    // Tasks nest to any depth through parent_id; subtrees and ancestor chains are
+    // resolved with one recursive CTE over idx_tasks_parent_status. CROSS JOIN keeps the
+    // CTE as the outer loop, so the rows are fetched by id instead of scanning tasks.
+
+    // All descendants of a task (not the task itself), shallowest first
+    @Query(value = "WITH RECURSIVE subtree(id, depth) AS (" +
+           "SELECT id, 1 FROM tasks WHERE parent_id = :rootId " +
+           "UNION SELECT c.id, s.depth + 1 FROM tasks c JOIN subtree s ON c.parent_id = s.id " +
+           "WHERE s.depth < " + MAX_DEPTH + ") " +
+           "SELECT t.* FROM subtree s CROSS JOIN tasks t ON t.id = s.id ORDER BY s.depth, t.created_at, t.id",
+           nativeQuery = true)
+    List<Task> findDescendants(@Param("rootId") Long rootId);
+
+    // A task followed by its ancestors, nearest first
+    @Query(value = "WITH RECURSIVE chain(id, depth) AS (" +
+           "SELECT :taskId, 0 " +
+           "UNION ALL SELECT t.parent_id, c.depth + 1 FROM tasks t JOIN chain c ON t.id = c.id " +
+           "WHERE t.parent_id IS NOT NULL AND c.depth < " + MAX_DEPTH + ") " +
+           "SELECT t.* FROM chain c CROSS JOIN tasks t ON t.id = c.id ORDER BY c.depth",
+           nativeQuery = true)
+    List<Task> findSelfAndAncestors(@Param("taskId") Long taskId);
+
+    // Delete the given tasks and everything below them
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH RECURSIVE " + SUBTREE_OF_ROOTS +
+           "DELETE FROM tasks WHERE id IN (SELECT id FROM subtree)",
+           nativeQuery = true)
+    int deleteSubtrees(@Param("rootIds") Collection<Long> rootIds);
+}
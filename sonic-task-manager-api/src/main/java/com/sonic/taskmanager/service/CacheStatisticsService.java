@@ -0,0 +1,51 @@
+package com.sonic.taskmanager.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.sonic.taskmanager.model.dto.CacheRegionStatsDto;
+
+/**
+ * Reads second-level cache counters from the JCache statistics MBeans.
+ * Ehcache registers one per region when statistics are enabled in ehcache.xml;
+ * the list is empty when the cache is turned off.
+ */
+@Service
+public class CacheStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheStatisticsService.class);
+
+    private static final String STATISTICS_QUERY = "javax.cache:type=CacheStatistics,*";
+
+    public List<CacheRegionStatsDto> getRegionStatistics() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        List<CacheRegionStatsDto> regions = new ArrayList<>();
+        try {
+            for (ObjectName name : server.queryNames(new ObjectName(STATISTICS_QUERY), null)) {
+                CacheRegionStatsDto region = new CacheRegionStatsDto();
+                region.setRegion(name.getKeyProperty("Cache"));
+                region.setHits((Long) server.getAttribute(name, "CacheHits"));
+                region.setMisses((Long) server.getAttribute(name, "CacheMisses"));
+                region.setHitPercentage((Float) server.getAttribute(name, "CacheHitPercentage"));
+                region.setPuts((Long) server.getAttribute(name, "CachePuts"));
+                region.setRemovals((Long) server.getAttribute(name, "CacheRemovals"));
+                region.setEvictions((Long) server.getAttribute(name, "CacheEvictions"));
+                regions.add(region);
+            }
+        } catch (JMException e) {
+            logger.warn("Could not read cache statistics: {}", e.getMessage());
+        }
+        regions.sort(Comparator.comparing(CacheRegionStatsDto::getRegion));
+        return regions;
+    }
+}
@@ -0,0 +1,116 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves the live workspace into the next calendar epoch on time, instead of on
+ * the first read after a boundary. Fires at local midnight and at the next snooze
+ * or reminder expiry; each run recomputes the date-derived fields in one batch,
+ * which publishes a CalendarEpochEvent, and arms the timer for the next boundary.
+ */
+@Service
+public class CalendarEpochScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarEpochScheduler.class);
+
+    private final LiveWorkspace liveWorkspace;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean rescheduleQueued = new AtomicBoolean();
+
+    // Guarded by this
+    private ScheduledFuture<?> nextRun;
+    private LocalDateTime nextBoundary;
+
+    public CalendarEpochScheduler(LiveWorkspace liveWorkspace, TaskScheduler taskScheduler) {
+        this.liveWorkspace = liveWorkspace;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        advance();
+    }
+
+    /**
+     * Day boundary; normally the boundary timer already ran, this covers clock adjustments
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void onMidnight() {
+        advance();
+    }
+
+    /**
+     * A write can add an earlier boundary (a short snooze); re-arm off the writer's thread
+     * The boundary comes from the patched rows alone, the workspace waits for the next read
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (rescheduleQueued.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                rescheduleQueued.set(false);
+                rearm();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * Bring the workspace up to date (a new epoch if a boundary passed) and arm the next run
+     */
+    public void advance() {
+        LocalDateTime until;
+        try {
+            until = liveWorkspace.refreshValidUntil();
+        } catch (RuntimeException e) {
+            logger.warn("Calendar epoch refresh failed", e);
+            return;
+        }
+        schedule(until);
+    }
+
+    private void rearm() {
+        LocalDateTime until;
+        try {
+            until = liveWorkspace.syncValidUntil();
+        } catch (RuntimeException e) {
+            logger.warn("Calendar boundary update failed", e);
+            return;
+        }
+        schedule(until);
+    }
+
+    private synchronized void schedule(LocalDateTime boundary) {
+        if (boundary == null || boundary.equals(nextBoundary)) {
+            return;
+        }
+        if (nextRun != null) {
+            nextRun.cancel(false);
+        }
+        nextBoundary = boundary;
+        logger.debug("Next calendar boundary at {}", boundary);
+        Instant at = boundary.atZone(ZoneId.systemDefault()).toInstant();
+        nextRun = taskScheduler.schedule(this::onBoundary, at);
+    }
+
+    private void onBoundary() {
+        synchronized (this) {
+            // Re-arm even if the timer fired a little early and the boundary comes back unchanged
+            nextBoundary = null;
+        }
+        advance();
+    }
+}
@@ -0,0 +1,64 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.FocusScoringModelChangedEvent;
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version of the task data, used as a strong ETag for polled reads.
+ *
+ * Every committed write bumps the counter, and so does a change of focus
+ * weights. The tag also carries the calendar epoch, which moves at midnight and
+ * whenever a snooze ends or a reminder comes due, since task reads depend on
+ * the clock as well.
+ * The boot nonce keeps tags from an earlier process from ever matching.
+ */
+@Service
+public class DataVersionService {
+
+    private final String bootNonce = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    private final LiveWorkspace liveWorkspace;
+
+    public DataVersionService(LiveWorkspace liveWorkspace) {
+        this.liveWorkspace = liveWorkspace;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Same data, different focus ranking
+     */
+    @EventListener
+    public void onScoringModelChanged(FocusScoringModelChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Tag for the current task data; reads two counters and the stored time boundary,
+     * never the database or the workspace lock
+     */
+    public String currentTag() {
+        // Read the version first: a write landing in between only makes the tag older, never newer
+        long current = version.get();
+        // Boundary before epoch: an advance in between then shows as a newer epoch, never an older one
+        LocalDateTime boundary = liveWorkspace.getValidUntil();
+        String tag = bootNonce + "-" + current + "-" + liveWorkspace.getCalendarEpoch();
+
+        // Normally CalendarEpochScheduler has already moved to the next epoch; until it does,
+        // the passed boundary goes into the tag, since the reads behind it have changed
+        if (boundary != null && !LocalDateTime.now().isBefore(boundary)) {
+            return tag + "-" + boundary;
+        }
+        return tag;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.Task;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Open tasks with a deadline, bucketed by deadline day: one sorted id array per epoch day.
+ *
+ * "Overdue" is every bucket before today and "due within N days" every bucket up to
+ * today + N, so a lookup only copies the ids in those buckets instead of walking the
+ * tasks. Buckets are keyed by absolute day, so a day rollover moves no task.
+ * Memory follows the number of indexed tasks, whatever the ids are.
+ * Snoozed tasks are indexed too; the running counts over active tasks are WorkloadCounters'.
+ *
+ * Not thread-safe: LiveWorkspace keeps the live one under its lock, next to the rows it mirrors.
+ */
+class DeadlineIndex {
+
+    // By epoch day of the deadline
+    private final TreeMap<Long, IdSet> buckets = new TreeMap<>();
+    // Deadline day of each indexed task, to move or drop it when it changes
+    private final Map<Long, Long> days = new HashMap<>();
+
+    /**
+     * Add or move an open task; one without a deadline is simply not indexed
+     */
+    void put(Task task) {
+        remove(task.getId());
+        if (task.getDeadline() == null) {
+            return;
+        }
+
+        long day = task.getDeadline().toEpochDay();
+        buckets.computeIfAbsent(day, key -> new IdSet()).add(task.getId());
+        days.put(task.getId(), day);
+    }
+
+    /**
+     * Drop a task that was completed or deleted; unknown ids are ignored
+     */
+    void remove(Long id) {
+        Long day = days.remove(id);
+        if (day == null) {
+            return;
+        }
+
+        IdSet bucket = buckets.get(day);
+        bucket.remove(id);
+        if (bucket.size == 0) {
+            buckets.remove(day);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+        days.clear();
+    }
+
+    /**
+     * Which tasks are due on or before lastDay (overdue ones included), a binary search per test
+     * The answer is a copy, so it stays as it was when taken
+     */
+    Predicate<Long> dueBy(LocalDate lastDay) {
+        Iterable<IdSet> due = buckets.headMap(lastDay.toEpochDay(), true).values();
+        int count = 0;
+        for (IdSet bucket : due) {
+            count += bucket.size;
+        }
+
+        long[] ids = new long[count];
+        int at = 0;
+        for (IdSet bucket : due) {
+            System.arraycopy(bucket.ids, 0, ids, at, bucket.size);
+            at += bucket.size;
+        }
+        Arrays.sort(ids);
+        return id -> id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Ids of one day's tasks, kept sorted; a day holds few tasks, so inserts just shift
+     */
+    private static final class IdSet {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.FocusScoreRow;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.util.FocusCalculator;
+import com.sonic.taskmanager.util.FocusScoringModel;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Top focus candidates straight from the database, without loading and scoring every open task.
+ *
+ * A task's score is its stored static part (tasks.focus_score) plus the urgency points of its
+ * deadline. Deadlines fall into a handful of buckets per day with the same urgency points each,
+ * so the best N overall are among the best N of each bucket by static score: one indexed
+ * LIMIT query per bucket, merged here by full score and then id, like FocusCalculator.selectTop.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FocusRankingService {
+
+    private static final Comparator<ScoredTask> BEST_FIRST =
+            Comparator.comparingDouble((ScoredTask task) -> task.score).reversed()
+                    .thenComparingLong(task -> task.id);
+
+    private final TaskRepository taskRepository;
+    private final FocusCalculator focusCalculator;
+
+    // Today's deadline ranges per urgency bucket, rebuilt when the day or the model changes
+    private volatile DailyBuckets dailyBuckets;
+
+    public FocusRankingService(TaskRepository taskRepository, FocusCalculator focusCalculator) {
+        this.taskRepository = taskRepository;
+        this.focusCalculator = focusCalculator;
+    }
+
+    /**
+     * Ids of the best open main tasks outside their snooze window, best first
+     * Same ranking as the workspace computes with FocusCalculator
+     */
+    public List<Long> findTopFocusTaskIds(int limit, boolean excludeReminders, LocalDateTime now) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Integer excludedType = excludeReminders ? TaskType.REMINDER.getCode() : null;
+
+        List<ScoredTask> candidates = new ArrayList<>();
+        addCandidates(candidates, taskRepository.findTopFocusWithoutDeadline(now, excludedType, limit), 0);
+        for (DeadlineBucket bucket : bucketsFor(now.toLocalDate())) {
+            addCandidates(candidates, taskRepository.findTopFocusDueBetween(
+                    bucket.firstDay, bucket.lastDay, now, excludedType, limit), bucket.points);
+        }
+
+        candidates.sort(BEST_FIRST);
+        return candidates.stream().limit(limit).map(task -> task.id).toList();
+    }
+
+    private static void addCandidates(List<ScoredTask> candidates, List<FocusScoreRow> rows, double urgencyPoints) {
+        for (FocusScoreRow row : rows) {
+            if (row.getFocusScore() != null) {
+                candidates.add(new ScoredTask(row.getId(), row.getFocusScore() + urgencyPoints));
+            }
+        }
+    }
+
+    private List<DeadlineBucket> bucketsFor(LocalDate today) {
+        FocusScoringModel model = focusCalculator.getModel();
+        DailyBuckets current = dailyBuckets;
+        if (current == null || current.model != model || !current.day.equals(today)) {
+            current = new DailyBuckets(model, today);
+            dailyBuckets = current;
+        }
+        return current.buckets;
+    }
+
+    private static final class DailyBuckets {
+
+        private final FocusScoringModel model;
+        private final LocalDate day;
+        private final List<DeadlineBucket> buckets = new ArrayList<>();
+
+        private DailyBuckets(FocusScoringModel model, LocalDate day) {
+            this.model = model;
+            this.day = day;
+            for (FocusScoringModel.UrgencyBucket bucket : model.urgencyBuckets()) {
+                buckets.add(new DeadlineBucket(
+                        bucket.getFirstDay() != null ? day.plusDays(bucket.getFirstDay()) : null,
+                        bucket.getLastDay() != null ? day.plusDays(bucket.getLastDay()) : null,
+                        bucket.getPoints()));
+            }
+        }
+    }
+
+    private static final class DeadlineBucket {
+
+        private final LocalDate firstDay;
+        private final LocalDate lastDay;
+        private final double points;
+
+        private DeadlineBucket(LocalDate firstDay, LocalDate lastDay, double points) {
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+            this.points = points;
+        }
+    }
+
+    private static final class ScoredTask {
+
+        private final long id;
+        private final double score;
+
+        private ScoredTask(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.FocusScoringModelChangedEvent;
+import com.sonic.taskmanager.event.PreferencesChangedEvent;
+import com.sonic.taskmanager.repository.FocusScoreStore;
+import com.sonic.taskmanager.util.FocusCalculator;
+import com.sonic.taskmanager.util.FocusScoringModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * Keeps FocusCalculator scoring with the weights in preferences.
+ * The settings are parsed and compiled into a FocusScoringModel here, at startup
+ * and after a write to one of them, never while scoring. The stored static scores
+ * (FocusScoreStore) are rewritten to match.
+ */
+@Service
+public class FocusScoringModelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FocusScoringModelService.class);
+
+    private final PreferencesService preferencesService;
+    private final FocusCalculator focusCalculator;
+    private final FocusScoreStore focusScoreStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FocusScoringModelService(PreferencesService preferencesService, FocusCalculator focusCalculator,
+                                    FocusScoreStore focusScoreStore, ApplicationEventPublisher eventPublisher) {
+        this.preferencesService = preferencesService;
+        this.focusCalculator = focusCalculator;
+        this.focusScoreStore = focusScoreStore;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Load the stored weights before the first workspace is computed for clients
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferencesChanged(PreferencesChangedEvent event) {
+        if (event.isReset() || event.getKeys().stream().anyMatch(FocusScoringModel::isSettingKey)) {
+            reload();
+        }
+    }
+
+    /**
+     * Compile the stored settings and swap them in; keeps the current model if they do not compile
+     */
+    public void reload() {
+        Map<String, String> preferences = preferencesService.getAllPreferences();
+        FocusScoringModel model;
+        try {
+            model = FocusScoringModel.compile(preferences);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Keeping the current focus scoring weights: {}", e.getMessage());
+            return;
+        }
+        // Rescore the stored rows first; from the swap on, both sides rank with the new points
+        focusScoreStore.applyModel(model);
+        focusCalculator.setModel(model);
+        eventPublisher.publishEvent(new FocusScoringModelChangedEvent(model));
+    }
+}
@@ -0,0 +1,338 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.CalendarEpochEvent;
+import com.sonic.taskmanager.event.FocusScoringModelChangedEvent;
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
+import com.sonic.taskmanager.model.dto.WorkspaceDto;
+import com.sonic.taskmanager.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory copy of the open tasks (scoring columns only) plus the workspace computed from them.
+ *
+ * Writes publish a TaskChangedEvent; after commit we only note the changed ids.
+ * The next read re-fetches just those rows, patches the copy and recomputes the
+ * workspace without rescanning the table. A computed workspace is also reused
+ * until the clock crosses a boundary that could change it (midnight, a snooze
+ * ending, a reminder becoming due).
+ * A DeadlineIndex over the same rows answers the overdue and urgent lookups, and
+ * WorkloadCounters keep the mood and workload totals, both patched with the rows.
+ */
+@Component
+public class LiveWorkspace {
+
+    // Keeps id lists in findByIdIn well below SQLite's bound parameter limit
+    private static final int FETCH_CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final WorkspaceService workspaceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Changes noted by event listeners, drained by the next snapshot
+    private final Object pendingLock = new Object();
+    private final Set<Long> pendingIds = new HashSet<>();
+    private final Set<Long> pendingSubtreeRoots = new HashSet<>();
+    private boolean reloadRequested = true;
+
+    // Guarded by this; validUntil is also read without the lock
+    private final TreeMap<Long, Task> openTasks = new TreeMap<>();
+    private final DeadlineIndex deadlines = new DeadlineIndex();
+    private final WorkloadCounters workload = new WorkloadCounters(LocalDateTime.now());
+    private WorkspaceDto workspace;
+    // Rows changed since the workspace was last computed
+    private boolean stale;
+    private volatile LocalDateTime validUntil;
+    // Bumped each time validUntil passes and the workspace is recomputed for it
+    private volatile long calendarEpoch;
+
+    public LiveWorkspace(TaskRepository taskRepository, WorkspaceService workspaceService,
+                         ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.workspaceService = workspaceService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Note changed rows; no database access here, the writer's transaction is already done
+     * Runs before other listeners so the data version never gets ahead of the pending set
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (pendingLock) {
+            if (event.isFullReload()) {
+                reloadRequested = true;
+            } else if (event.isIncludeSubtrees()) {
+                pendingSubtreeRoots.addAll(event.getTaskIds());
+            } else {
+                pendingIds.addAll(event.getTaskIds());
+            }
+        }
+    }
+
+    /**
+     * New focus weights: the rows are unchanged but every score is stale
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onScoringModelChanged(FocusScoringModelChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Drop the in-memory copy; the next snapshot reloads every open task
+     */
+    public void invalidate() {
+        synchronized (pendingLock) {
+            reloadRequested = true;
+        }
+    }
+
+    /**
+     * Current workspace, patched with any changes since the last call
+     */
+    @Transactional(readOnly = true)
+    public synchronized WorkspaceDto snapshot() {
+        refresh(LocalDateTime.now());
+        return copyOf(workspace);
+    }
+
+    /**
+     * The next time boundary as last computed, null before the first one; no lock, no database
+     * Pending writes are not looked at: they move the data version, not the boundary
+     */
+    public LocalDateTime getValidUntil() {
+        return validUntil;
+    }
+
+    /**
+     * Bring the workspace up to date and return how long it stays valid
+     */
+    @Transactional(readOnly = true)
+    public synchronized LocalDateTime refreshValidUntil() {
+        refresh(LocalDateTime.now());
+        return validUntil;
+    }
+
+    /**
+     * Apply pending writes to the rows and return the next time boundary they imply,
+     * without recomputing the workspace; the next read does that, as it would anyway
+     */
+    @Transactional(readOnly = true)
+    public synchronized LocalDateTime syncValidUntil() {
+        LocalDateTime now = LocalDateTime.now();
+        sync();
+        // A boundary that already passed stays, so the next refresh still starts a new epoch
+        if (stale && (validUntil == null || now.isBefore(validUntil))) {
+            validUntil = computeValidUntil(now);
+        }
+        return validUntil;
+    }
+
+    /**
+     * Which open tasks are due on or before lastDay (overdue ones included), as of now
+     * Done tasks are not indexed, so they never match
+     */
+    @Transactional(readOnly = true)
+    public synchronized Predicate<Long> dueBy(LocalDate lastDay) {
+        sync();
+        return deadlines.dueBy(lastDay);
+    }
+
+    /**
+     * Name of the first running workload total that differs from a count over a fresh scan, null if none
+     */
+    @Transactional(readOnly = true)
+    public synchronized String findWorkloadDrift() {
+        sync();
+        LocalDateTime now = LocalDateTime.now();
+        workload.advanceTo(now);
+        List<Task> scanned = taskRepository.findOpenScoringRows().stream()
+                .map(TaskScoringRow::toTask)
+                .toList();
+        return workload.findDifference(WorkloadCounters.of(scanned, now));
+    }
+
+    private void refresh(LocalDateTime now) {
+        sync();
+
+        boolean expired = validUntil != null && !now.isBefore(validUntil);
+        if (stale || workspace == null || expired) {
+            // Day rollover and snoozes that ran out
+            workload.advanceTo(now);
+            // Copies, so enrichment never touches the tasks kept here or in earlier snapshots
+            List<Task> tasks = openTasks.values().stream().map(Task::new).toList();
+            workspace = workspaceService.computeLiveWorkspace(tasks, workload, now);
+            validUntil = computeValidUntil(now);
+            stale = false;
+        }
+        if (expired) {
+            calendarEpoch++;
+            eventPublisher.publishEvent(new CalendarEpochEvent(calendarEpoch, validUntil));
+        }
+    }
+
+    /**
+     * Apply the changes noted since the last call to the in-memory rows and deadline index
+     */
+    private void sync() {
+        Set<Long> changedIds;
+        Set<Long> subtreeRoots;
+        boolean reload;
+        synchronized (pendingLock) {
+            reload = reloadRequested;
+            changedIds = new HashSet<>(pendingIds);
+            subtreeRoots = new HashSet<>(pendingSubtreeRoots);
+            reloadRequested = false;
+            pendingIds.clear();
+            pendingSubtreeRoots.clear();
+        }
+
+        if (reload) {
+            openTasks.clear();
+            deadlines.clear();
+            workload.clear();
+            for (TaskScoringRow row : taskRepository.findOpenScoringRows()) {
+                Task task = row.toTask();
+                openTasks.put(row.getId(), task);
+                deadlines.put(task);
+                workload.put(task);
+            }
+            stale = true;
+        } else if (!changedIds.isEmpty() || !subtreeRoots.isEmpty()) {
+            applyChanges(changedIds, subtreeRoots);
+            stale = true;
+        }
+    }
+
+    /**
+     * Counts the time boundaries passed so far; date-derived state cached under one epoch stays valid
+     */
+    public long getCalendarEpoch() {
+        return calendarEpoch;
+    }
+
+    private void applyChanges(Set<Long> changedIds, Set<Long> subtreeRoots) {
+        Set<Long> toFetch = new HashSet<>(changedIds);
+        if (!subtreeRoots.isEmpty()) {
+            Map<Long, List<Long>> childrenByParent = new HashMap<>();
+            Set<Long> orphans = new HashSet<>();
+            for (Task task : openTasks.values()) {
+                if (task.getParentId() != null) {
+                    childrenByParent.computeIfAbsent(task.getParentId(), k -> new ArrayList<>()).add(task.getId());
+                    // Open task under a done parent: not reachable from the roots through this map
+                    if (!openTasks.containsKey(task.getParentId())) {
+                        orphans.add(task.getId());
+                    }
+                }
+            }
+
+            Set<Long> visited = new HashSet<>();
+            Deque<Long> queue = new ArrayDeque<>(subtreeRoots);
+            queue.addAll(orphans);
+            while (!queue.isEmpty()) {
+                Long id = queue.poll();
+                if (visited.add(id)) {
+                    toFetch.add(id);
+                    queue.addAll(childrenByParent.getOrDefault(id, List.of()));
+                }
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(toFetch);
+        Map<Long, TaskScoringRow> fetched = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()));
+            for (TaskScoringRow row : taskRepository.findScoringRowsByIdIn(chunk)) {
+                fetched.put(row.getId(), row);
+            }
+        }
+
+        for (Long id : ids) {
+            TaskScoringRow row = fetched.get(id);
+            if (row == null || row.getStatus() == TaskStatus.DONE) {
+                openTasks.remove(id);
+                deadlines.remove(id);
+                workload.remove(id);
+            } else {
+                Task task = row.toTask();
+                openTasks.put(id, task);
+                deadlines.put(task);
+                workload.put(task);
+            }
+        }
+    }
+
+    /**
+     * Earliest moment the workspace can change without a write:
+     * next midnight, a snooze running out, or a reminder reaching its quiet-days or one-week mark
+     */
+    private LocalDateTime computeValidUntil(LocalDateTime now) {
+        LocalDateTime until = LocalDate.from(now).plusDays(1).atStartOfDay();
+        for (Task task : openTasks.values()) {
+            until = earlierFuture(until, task.getSnoozedUntil(), now);
+            if (task.getType() == TaskType.REMINDER && task.getStatus() == TaskStatus.TODO && task.getUpdatedAt() != null) {
+                until = earlierFuture(until, task.getUpdatedAt().plusDays(ReminderService.REMINDER_QUIET_DAYS), now);
+                until = earlierFuture(until, task.getUpdatedAt().plusWeeks(1), now);
+            }
+        }
+        return until;
+    }
+
+    private static LocalDateTime earlierFuture(LocalDateTime current, LocalDateTime candidate, LocalDateTime now) {
+        if (candidate != null && candidate.isAfter(now) && candidate.isBefore(current)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    /**
+     * Shallow copy, so callers can't change the cached lists or nested DTOs
+     */
+    private static WorkspaceDto copyOf(WorkspaceDto source) {
+        WorkspaceDto copy = new WorkspaceDto();
+        copy.setDailyMood(source.getDailyMood());
+        copy.setFocusTask(source.getFocusTask());
+        copy.setNextUpStack(List.copyOf(source.getNextUpStack()));
+        copy.setQuickWins(List.copyOf(source.getQuickWins()));
+        copy.setActiveReminders(List.copyOf(source.getActiveReminders()));
+
+        WorkspaceDto.ShowSectionsDto sections = new WorkspaceDto.ShowSectionsDto();
+        sections.setUrgentTasks(source.getShowSections().isUrgentTasks());
+        sections.setQuickWins(source.getShowSections().isQuickWins());
+        sections.setHabits(source.getShowSections().isHabits());
+        sections.setReminders(source.getShowSections().isReminders());
+        copy.setShowSections(sections);
+
+        WorkspaceDto.WorkloadAssessmentDto workload = new WorkspaceDto.WorkloadAssessmentDto();
+        workload.setTotalTasks(source.getWorkloadAssessment().getTotalTasks());
+        workload.setUrgentCount(source.getWorkloadAssessment().getUrgentCount());
+        workload.setEstimatedHours(source.getWorkloadAssessment().getEstimatedHours());
+        workload.setRecommendation(source.getWorkloadAssessment().getRecommendation());
+        copy.setWorkloadAssessment(workload);
+        return copy;
+    }
+}
@@ -1,45 +1,26 @@
 package com.sonic.taskmanager.service;
 
-import com.sonic.taskmanager.model.Task;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class MoodCalculatorService {
 
     /**
-     * Calculate daily mood based on current workload
+     * Calculate daily mood from the running counters, in constant time
      */
-    public String calculateDailyMood(List<Task> activeTasks) {
-        if (activeTasks == null || activeTasks.isEmpty()) {
+    public String calculateDailyMood(StressCounts counts) {
+        if (counts.activeTasks == 0) {
             return "relaxed";
         }
 
-        // Filter to main tasks only
-        List<Task> mainTasks = activeTasks.stream()
-                .filter(task -> task.getParentId() == null)
-                .filter(task -> !"done".equals(task.getStatus()))
-                .toList();
-
-        int totalTasks = mainTasks.size();
-        
-        // Count different types of pressure
-        long overdueCount = mainTasks.stream().filter(Task::isOverdue).count();
-        long urgentCount = mainTasks.stream().filter(Task::isUrgent).count();
-        long highPriorityCount = mainTasks.stream()
-                .filter(task -> "high".equals(task.getPriority()))
-                .count();
-        long hardTasksCount = mainTasks.stream()
-                .filter(task -> "hard".equals(task.getComplexity()))
-                .count();
+        int totalTasks = counts.mainTasks;
 
         // Calculate stress level
         double stressScore = 0;
-        stressScore += overdueCount * 3; // Overdue is most stressful
-        stressScore += urgentCount * 2;  // Urgent is also stressful
-        stressScore += highPriorityCount * 1.5; // High priority adds stress
-        stressScore += hardTasksCount * 1; // Hard tasks add some stress
+        stressScore += counts.overdue * 3; // Overdue is most stressful
+        stressScore += counts.urgent * 2;  // Urgent is also stressful
+        stressScore += counts.highPriority * 1.5; // High priority adds stress
+        stressScore += counts.hard * 1; // Hard tasks add some stress
         stressScore += totalTasks * 0.5; // Each task adds a little stress
 
         // Normalize stress score
@@ -88,4 +69,26 @@ public class MoodCalculatorService {
             default -> "👍";
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Pressure counters over the active tasks; only open main tasks add stress
+     * Kept up to date per task write by WorkloadCounters
+     */
+    public static class StressCounts {
+        private final int activeTasks;
+        private final int mainTasks;
+        private final int overdue;
+        private final int urgent;
+        private final int highPriority;
+        private final int hard;
+
+        public StressCounts(int activeTasks, int mainTasks, int overdue, int urgent, int highPriority, int hard) {
+            this.activeTasks = activeTasks;
+            this.mainTasks = mainTasks;
+            this.overdue = overdue;
+            this.urgent = urgent;
+            this.highPriority = highPriority;
+            this.hard = hard;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.sonic.taskmanager.service;
 
+import com.sonic.taskmanager.event.PreferencesChangedEvent;
 import com.sonic.taskmanager.model.Preferences;
 import com.sonic.taskmanager.repository.PreferencesRepository;
+import com.sonic.taskmanager.util.FocusScoringModel;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,20 +21,29 @@ import java.util.stream.Collectors;
 public class PreferencesService {
 
     private final PreferencesRepository preferencesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // Default preferences
-    private static final Map<String, String> DEFAULT_PREFERENCES = Map.of(
-        "daily_mood", "chill",
-        "work_hours_start", "09:00",
-        "work_hours_end", "17:00", 
-        "focus_session_duration", "90",
-        "gentle_reminder_frequency", "3",
-        "show_completed_tasks", "true",
-        "workspace_theme", "warm"
-    );
-
-    public PreferencesService(PreferencesRepository preferencesRepository) {
+    // Default preferences, plus the focus scoring weights
+    private static final Map<String, String> DEFAULT_PREFERENCES = defaultPreferences();
+
+    public PreferencesService(PreferencesRepository preferencesRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.preferencesRepository = preferencesRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private static Map<String, String> defaultPreferences() {
+        Map<String, String> defaults = new HashMap<>(Map.of(
+            "daily_mood", "chill",
+            "work_hours_start", "09:00",
+            "work_hours_end", "17:00",
+            "focus_session_duration", "90",
+            "gentle_reminder_frequency", "3",
+            "show_completed_tasks", "true",
+            "workspace_theme", "warm"
+        ));
+        defaults.putAll(FocusScoringModel.defaultSettings());
+        return Collections.unmodifiableMap(defaults);
     }
 
     /**
@@ -60,6 +75,12 @@ public class PreferencesService {
      * Set preference value
      */
     public void setPreference(String key, String value) {
+        validateScoringSettings(Collections.singletonMap(key, value));
+        savePreference(key, value);
+        eventPublisher.publishEvent(PreferencesChangedEvent.of(List.of(key)));
+    }
+
+    private void savePreference(String key, String value) {
         Optional<Preferences> existingPref = preferencesRepository.findByKey(key);
         
         if (existingPref.isPresent()) {
@@ -101,9 +122,23 @@ public class PreferencesService {
      * Set multiple preferences at once
      */
     public void setPreferences(Map<String, String> preferences) {
+        validateScoringSettings(preferences);
         for (Map.Entry<String, String> entry : preferences.entrySet()) {
-            setPreference(entry.getKey(), entry.getValue());
+            savePreference(entry.getKey(), entry.getValue());
         }
+        eventPublisher.publishEvent(PreferencesChangedEvent.of(preferences.keySet()));
+    }
+
+    /**
+     * Reject focus scoring settings that would not compile together with the stored ones
+     */
+    private void validateScoringSettings(Map<String, String> changes) {
+        if (changes.keySet().stream().noneMatch(FocusScoringModel::isSettingKey)) {
+            return;
+        }
+        Map<String, String> merged = getAllPreferences();
+        merged.putAll(changes);
+        FocusScoringModel.compile(merged);
     }
 
     /**
@@ -112,6 +147,7 @@ public class PreferencesService {
     public boolean deletePreference(String key) {
         if (preferencesRepository.existsByKey(key)) {
             preferencesRepository.deleteById(key);
+            eventPublisher.publishEvent(PreferencesChangedEvent.of(List.of(key)));
             return true;
         }
         return false;
@@ -122,11 +158,16 @@ public class PreferencesService {
      */
     @Transactional
     public void initializeDefaultPreferences() {
+        List<String> added = new ArrayList<>();
         for (Map.Entry<String, String> defaultPref : DEFAULT_PREFERENCES.entrySet()) {
             if (!preferencesRepository.existsByKey(defaultPref.getKey())) {
-                setPreference(defaultPref.getKey(), defaultPref.getValue());
+                savePreference(defaultPref.getKey(), defaultPref.getValue());
+                added.add(defaultPref.getKey());
             }
         }
+        if (!added.isEmpty()) {
+            eventPublisher.publishEvent(PreferencesChangedEvent.of(added));
+        }
     }
 
     /**
@@ -135,6 +176,7 @@ public class PreferencesService {
     public void resetToDefaults() {
         preferencesRepository.deleteAll();
         initializeDefaultPreferences();
+        eventPublisher.publishEvent(PreferencesChangedEvent.reset());
     }
 
     /**
@@ -1,22 +1,32 @@
 package com.sonic.taskmanager.service;
 
+import com.sonic.taskmanager.event.TaskChangedEvent;
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
 import com.sonic.taskmanager.repository.TaskRepository;
 import com.sonic.taskmanager.util.DateUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 public class ReminderService {
 
+    // Reminders not touched for this many days should surface
+    public static final int REMINDER_QUIET_DAYS = 3;
+
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReminderService(TaskRepository taskRepository) {
+    public ReminderService(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -27,13 +37,32 @@ public class ReminderService {
         LocalDateTime now = LocalDateTime.now();
         
         // Reminders not touched for 3 days should surface
-        LocalDateTime reminderThreshold = now.minusDays(3);
+        LocalDateTime reminderThreshold = now.minusDays(REMINDER_QUIET_DAYS);
 
         List<Task> reminders = taskRepository.findActiveReminders(now, reminderThreshold);
-        
+        return pickRemindersToShow(reminders, now);
+    }
+
+    /**
+     * Same selection as getActiveReminders, over tasks already in memory
+     * Candidates must be in id order to match the query
+     */
+    public List<Task> selectActiveReminders(Collection<Task> tasks, LocalDateTime now) {
+        LocalDateTime reminderThreshold = now.minusDays(REMINDER_QUIET_DAYS);
+
+        List<Task> reminders = tasks.stream()
+                .filter(task -> task.getType() == TaskType.REMINDER)
+                .filter(task -> task.getStatus() == TaskStatus.TODO)
+                .filter(task -> task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now))
+                .filter(task -> task.getUpdatedAt() != null && !task.getUpdatedAt().isAfter(reminderThreshold))
+                .toList();
+        return pickRemindersToShow(reminders, now);
+    }
+
+    private List<Task> pickRemindersToShow(List<Task> reminders, LocalDateTime now) {
         // Apply some randomness to avoid showing too many at once
         return reminders.stream()
-                .filter(this::shouldShowReminderToday)
+                .filter(reminder -> shouldShowReminderToday(reminder, now))
                 .limit(3) // Max 3 reminders at once
                 .toList();
     }
@@ -42,16 +71,16 @@ public class ReminderService {
      * Determine if a reminder should be shown today
      * Add some randomness to make it feel natural
      */
-    private boolean shouldShowReminderToday(Task reminder) {
+    private boolean shouldShowReminderToday(Task reminder, LocalDateTime now) {
         // Always show if it's been more than a week
-        if (reminder.getUpdatedAt().isBefore(LocalDateTime.now().minusWeeks(1))) {
+        if (reminder.getUpdatedAt().isBefore(now.minusWeeks(1))) {
             return true;
         }
 
         // For gentle reminders, show with some probability based on how long it's been
         long daysSinceUpdate = DateUtils.daysBetween(
             reminder.getUpdatedAt().toLocalDate(), 
-            DateUtils.today()
+            now.toLocalDate()
         );
 
         // Probability increases with time
@@ -68,9 +97,10 @@ public class ReminderService {
     @Transactional
     public void snoozeReminder(Long taskId, int days) {
         taskRepository.findById(taskId).ifPresent(task -> {
-            if ("reminder".equals(task.getType())) {
+            if (task.getType() == TaskType.REMINDER) {
                 task.setSnoozedUntil(LocalDateTime.now().plusDays(days));
                 taskRepository.save(task);
+                eventPublisher.publishEvent(TaskChangedEvent.of(List.of(taskId)));
             }
         });
     }
@@ -81,10 +111,11 @@ public class ReminderService {
     @Transactional  
     public void acknowledgeReminder(Long taskId) {
         taskRepository.findById(taskId).ifPresent(task -> {
-            if ("reminder".equals(task.getType())) {
+            if (task.getType() == TaskType.REMINDER) {
                 // Just updating will trigger @PreUpdate and update the updatedAt timestamp
                 task.setUpdatedAt(LocalDateTime.now());
                 taskRepository.save(task);
+                eventPublisher.publishEvent(TaskChangedEvent.of(List.of(taskId)));
             }
         });
     }
@@ -0,0 +1,43 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import com.sonic.taskmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repairs drifted subtask counters on startup and on a nightly schedule.
+ * TaskService keeps the counters in step on every write; this only catches
+ * rows written outside it (older databases, manual edits).
+ */
+@Service
+public class SubtaskCounterRepairJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubtaskCounterRepairJob.class);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SubtaskCounterRepairJob(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${sonic.maintenance.subtask-counter-cron:0 30 3 * * *}")
+    @Transactional
+    public void repairCounters() {
+        int repaired = taskRepository.repairSubtaskCounters();
+        if (repaired > 0) {
+            logger.info("Repaired subtask counters on {} task(s)", repaired);
+            // The update does not report which rows it touched
+            eventPublisher.publishEvent(TaskChangedEvent.all());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.util.FocusCalculator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads the direct subtasks of a whole set of parents with one IN query,
+ * grouped by parent in memory, so list responses can preview subtasks on
+ * every card without a query per card.
+ */
+@Component
+public class SubtaskLoader {
+
+    // Keeps id lists in findByParentIdIn well below SQLite's bound parameter limit
+    private static final int FETCH_CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final FocusCalculator focusCalculator;
+
+    public SubtaskLoader(TaskRepository taskRepository, FocusCalculator focusCalculator) {
+        this.taskRepository = taskRepository;
+        this.focusCalculator = focusCalculator;
+    }
+
+    /**
+     * Direct subtasks of each parent (in id order, with calculated fields), keyed by parent id
+     * Parents whose subtask counter is zero are not queried and map to nothing
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Task>> loadSubtasks(Collection<Task> parents) {
+        Set<Long> parentIds = new LinkedHashSet<>();
+        for (Task parent : parents) {
+            if (parent.getSubtaskCount() == null || parent.getSubtaskCount() > 0) {
+                parentIds.add(parent.getId());
+            }
+        }
+
+        Map<Long, List<Task>> subtasksByParent = new HashMap<>();
+        List<Long> ids = new ArrayList<>(parentIds);
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()));
+            for (Task subtask : taskRepository.findByParentIdIn(chunk)) {
+                subtask.setDaysUntilDeadline(focusCalculator.calculateDaysUntilDeadline(subtask));
+                subtask.setUrgencyLevel(focusCalculator.calculateUrgencyLevel(subtask));
+                subtasksByParent.computeIfAbsent(subtask.getParentId(), key -> new ArrayList<>()).add(subtask);
+            }
+        }
+        return subtasksByParent;
+    }
+
+    /**
+     * Set the direct subtasks on each of the given tasks
+     */
+    @Transactional(readOnly = true)
+    public void attachSubtasks(Collection<Task> parents) {
+        Map<Long, List<Task>> subtasksByParent = loadSubtasks(parents);
+        for (Task parent : parents) {
+            parent.setSubtasks(subtasksByParent.getOrDefault(parent.getId(), List.of()));
+        }
+    }
+}
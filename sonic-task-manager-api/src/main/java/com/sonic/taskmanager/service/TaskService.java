@@ -1,25 +1,48 @@
 package com.sonic.taskmanager.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import com.sonic.taskmanager.model.CodedEnum;
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
 import com.sonic.taskmanager.model.dto.BulkOperationResultDto;
 import com.sonic.taskmanager.model.dto.PaginationDto;
+import com.sonic.taskmanager.model.dto.TaskCursor;
 import com.sonic.taskmanager.model.dto.TaskDto;
 import com.sonic.taskmanager.model.dto.TaskFilterDto;
+import com.sonic.taskmanager.model.dto.TaskStatsDto;
 import com.sonic.taskmanager.model.request.BulkUpdateRequest;
 import com.sonic.taskmanager.model.request.CreateTaskRequest;
 import com.sonic.taskmanager.model.response.PaginatedTaskResponse;
 import com.sonic.taskmanager.repository.TaskRepository;
 import com.sonic.taskmanager.util.DateUtils;
 import com.sonic.taskmanager.util.FocusCalculator;
+import com.sonic.taskmanager.util.SearchUtils;
 
 @Service
 @Transactional
@@ -27,10 +50,26 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final FocusCalculator focusCalculator;
-
-    public TaskService(TaskRepository taskRepository, FocusCalculator focusCalculator) {
+    private final SubtaskLoader subtaskLoader;
+    private final LiveWorkspace liveWorkspace;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long statsCacheTtlMs;
+
+    // Last statistics snapshot, valid while no write has committed since its query started
+    private volatile CachedStats cachedStats;
+    // Bumped by every committed write
+    private final AtomicLong statsGeneration = new AtomicLong();
+
+    public TaskService(TaskRepository taskRepository, FocusCalculator focusCalculator,
+                       SubtaskLoader subtaskLoader, LiveWorkspace liveWorkspace,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${sonic.stats.cache-ttl-ms:5000}") long statsCacheTtlMs) {
         this.taskRepository = taskRepository;
         this.focusCalculator = focusCalculator;
+        this.subtaskLoader = subtaskLoader;
+        this.liveWorkspace = liveWorkspace;
+        this.eventPublisher = eventPublisher;
+        this.statsCacheTtlMs = statsCacheTtlMs;
     }
 
     /**
@@ -43,24 +82,65 @@ public class TaskService {
     }
 
     /**
-     * Get task by ID
+     * Get task by ID with its whole subtree nested under subtasks
      */
     @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long id) {
         Optional<Task> task = taskRepository.findById(id);
         if (task.isPresent()) {
             enrichTaskWithCalculatedFields(task.get());
-            // Load subtasks
-            List<Task> subtasks = taskRepository.findByParentId(id);
-            task.get().setSubtasks(enrichTasksWithCalculatedFields(subtasks));
+            // Load every level below in one query and nest it in memory
+            List<Task> descendants = enrichTasksWithCalculatedFields(taskRepository.findDescendants(id));
+            attachSubtasks(task.get(), descendants);
         }
         return task;
     }
 
+    /**
+     * Check whether a task exists
+     */
+    @Transactional(readOnly = true)
+    public boolean taskExists(Long id) {
+        return taskRepository.existsById(id);
+    }
+
     /**
      * Create new task
      */
     public Task createTask(CreateTaskRequest request) {
+        Task savedTask = taskRepository.save(buildTask(request));
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.of(List.of(savedTask.getId())));
+
+        // Count the new subtask on its parent and refresh progress up the hierarchy
+        if (savedTask.getParentId() != null) {
+            rollUpProgress(savedTask.getParentId(), 1, 0);
+        }
+
+        return enrichTaskWithCalculatedFields(savedTask);
+    }
+
+    /**
+     * Create several subtasks under one parent
+     * Inserts go out as JDBC batches and the parent hierarchy is updated once
+     */
+    public List<Task> createSubtasks(Long parentId, List<CreateTaskRequest> requests) {
+        List<Task> subtasks = requests.stream()
+                .map(request -> {
+                    request.setParentId(parentId);
+                    return buildTask(request);
+                })
+                .toList();
+
+        List<Task> savedSubtasks = taskRepository.saveAll(subtasks);
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.of(savedSubtasks.stream().map(Task::getId).toList()));
+        rollUpProgress(parentId, savedSubtasks.size(), 0);
+
+        return enrichTasksWithCalculatedFields(savedSubtasks);
+    }
+
+    private Task buildTask(CreateTaskRequest request) {
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -75,7 +155,7 @@ public class TaskService {
         task.setContext(request.getContext());
 
         // Set default status
-        task.setStatus("todo");
+        task.setStatus(TaskStatus.TODO);
 
         // Set default progress
         if (task.getParentId() == null) {
@@ -83,15 +163,7 @@ public class TaskService {
         } else {
             task.setProgressTotal(1); // Subtasks are binary (0 or 1)
         }
-
-        Task savedTask = taskRepository.save(task);
-
-        // Update parent progress if this is a subtask
-        if (savedTask.getParentId() != null) {
-            updateParentProgress(savedTask.getParentId());
-        }
-
-        return enrichTaskWithCalculatedFields(savedTask);
+        return task;
     }
 
     /**
@@ -116,6 +188,8 @@ public class TaskService {
         task.setContext(request.getContext());
 
         Task savedTask = taskRepository.save(task);
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.of(List.of(id)));
         return Optional.of(enrichTaskWithCalculatedFields(savedTask));
     }
 
@@ -129,31 +203,17 @@ public class TaskService {
         }
 
         Task task = taskOpt.get();
-        task.setStatus("done");
-        task.setCompletedAt(LocalDateTime.now());
+        boolean wasDone = task.isCompleted();
+        Long parentId = task.getParentId();
 
-        // If it's a subtask, set progress to total (completed)
-        if (task.getParentId() != null) {
-            task.setProgressCurrent(task.getProgressTotal());
-        } else {
-            // If it's a main task, complete all its subtasks too
-            List<Task> subtasks = taskRepository.findByParentId(id);
-            for (Task subtask : subtasks) {
-                if (!"done".equals(subtask.getStatus())) {
-                    subtask.setStatus("done");
-                    subtask.setCompletedAt(LocalDateTime.now());
-                    subtask.setProgressCurrent(subtask.getProgressTotal());
-                    taskRepository.save(subtask);
-                }
-            }
-            task.setProgressCurrent(task.getProgressTotal());
-        }
+        // Complete the task and everything below it in one statement
+        taskRepository.completeSubtrees(List.of(id), LocalDateTime.now());
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.withSubtrees(List.of(id)));
 
-        taskRepository.save(task);
-
-        // Update parent progress if this is a subtask
-        if (task.getParentId() != null) {
-            updateParentProgress(task.getParentId());
+        // Update progress up the hierarchy if this is a subtask
+        if (parentId != null) {
+            rollUpProgress(parentId, 0, wasDone ? 0 : 1);
         }
 
         return true;
@@ -169,9 +229,17 @@ public class TaskService {
         }
 
         Task task = taskOpt.get();
+        boolean wasDone = task.isCompleted();
         task.setSnoozedUntil(snoozeUntil);
-        task.setStatus("snoozed");
+        task.setStatus(TaskStatus.SNOOZED);
         taskRepository.save(task);
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.of(List.of(id)));
+
+        // A snoozed subtask no longer counts as done on its parent
+        if (wasDone && task.getParentId() != null) {
+            rollUpProgress(task.getParentId(), 0, -1);
+        }
         return true;
     }
 
@@ -186,17 +254,16 @@ public class TaskService {
         // Get task to check if it has parent
         Optional<Task> task = taskRepository.findById(id);
         Long parentId = task.map(Task::getParentId).orElse(null);
+        boolean wasDone = task.map(Task::isCompleted).orElse(false);
 
-        // Delete all subtasks first
-        List<Task> subtasks = taskRepository.findByParentId(id);
-        taskRepository.deleteAll(subtasks);
-
-        // Delete the main task
-        taskRepository.deleteById(id);
+        // Delete the task and its whole subtree in one statement
+        taskRepository.deleteSubtrees(List.of(id));
+        invalidateStatistics();
+        eventPublisher.publishEvent(TaskChangedEvent.withSubtrees(List.of(id)));
 
-        // Update parent progress if this was a subtask
+        // Uncount it on the parent and refresh progress up the hierarchy if this was a subtask
         if (parentId != null) {
-            updateParentProgress(parentId);
+            rollUpProgress(parentId, -1, wasDone ? -1 : 0);
         }
 
         return true;
@@ -228,6 +295,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public PaginatedTaskResponse getTasksPaginated(Pageable pageable, TaskFilterDto filter) {
         Page<Task> taskPage;
+        String matchExpression = filter != null ? SearchUtils.toMatchExpression(filter.getSearchQuery()) : null;
         
         if (isFilterEmpty(filter)) {
             // No filter - get all main tasks with smart ordering
@@ -236,6 +304,21 @@ public class TaskService {
                 DateUtils.today().plusDays(3),
                 pageable
             );
+        } else if (SearchUtils.hasSearchText(filter.getSearchQuery()) && matchExpression == null) {
+            // Search text without a single word (punctuation only) matches nothing
+            taskPage = Page.empty(pageable);
+        } else if (matchExpression != null) {
+            // Full-text search - ranked by relevance, so the requested sort does not apply
+            taskPage = taskRepository.searchTasksWithFilter(
+                matchExpression,
+                CodedEnum.codeOf(filter.getStatus()),
+                CodedEnum.codeOf(filter.getPriority()),
+                CodedEnum.codeOf(filter.getComplexity()),
+                CodedEnum.codeOf(filter.getType()),
+                filter.getDeadlineFrom(),
+                filter.getDeadlineTo(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            );
         } else {
             // Apply filters
             taskPage = taskRepository.findTasksWithFilter(
@@ -245,7 +328,6 @@ public class TaskService {
                 filter.getType(),
                 filter.getDeadlineFrom(),
                 filter.getDeadlineTo(),
-                filter.getSearchQuery(),
                 DateUtils.today(),
                 DateUtils.today().plusDays(3),
                 pageable
@@ -256,11 +338,10 @@ public class TaskService {
         List<Task> enrichedTasks = enrichTasksWithCalculatedFields(taskPage.getContent());
         
         // Apply post-processing filters (for fields not in database)
-        if (filter != null && (filter.getIsOverdue() != null || filter.getIsUrgent() != null || filter.getHasSubtasks() != null)) {
-            enrichedTasks = enrichedTasks.stream()
-                .filter(task -> matchesPostFilters(task, filter))
-                .toList();
-        }
+        enrichedTasks = applyPostFilters(enrichedTasks, filter);
+
+        // Subtask previews for the whole page in one query
+        subtaskLoader.attachSubtasks(enrichedTasks);
 
         List<TaskDto> taskDtos = enrichedTasks.stream()
                 .map(this::convertToDto)
@@ -286,6 +367,111 @@ public class TaskService {
         return response;
     }
 
+    /**
+     * Get one keyset page of tasks for Studio interface
+     * No OFFSET, so a deep page costs the same as the first; the exact total is only counted on request.
+     * Every page still reads all main tasks matching the filters: the urgency bucket depends on today,
+     * so no index holds the sort order and SQLite sorts (keeping only the top size + 1 rows).
+     */
+    @Transactional(readOnly = true)
+    public PaginatedTaskResponse getTasksAfterCursor(String cursorToken, int size, boolean includeTotal,
+                                                     TaskFilterDto filter) {
+        if (filter != null && SearchUtils.hasSearchText(filter.getSearchQuery())) {
+            throw new IllegalArgumentException("Cursor pagination is not available for search results");
+        }
+
+        TaskCursor cursor = TaskCursor.decode(cursorToken);
+        LocalDate today = DateUtils.today();
+        int filterHash = TaskCursor.filterHash(filter);
+        cursor.requireIssuedFor(filterHash, today);
+        // START sorts ahead of every bucket, so its priority rank is never compared
+        TaskPriority priorityRank = cursor == TaskCursor.START
+            ? TaskPriority.HIGH
+            : CodedEnum.fromCode(TaskPriority.class, cursor.getPriorityRank());
+        LocalDate urgent = today.plusDays(3);
+        Limit limit = Limit.of(size + 1); // one extra row tells us whether there is a next page
+        boolean filtered = !isFilterEmpty(filter);
+
+        List<Task> rows;
+        if (filtered) {
+            rows = taskRepository.findTasksWithFilterAfter(
+                filter.getStatus(),
+                filter.getPriority(),
+                filter.getComplexity(),
+                filter.getType(),
+                filter.getDeadlineFrom(),
+                filter.getDeadlineTo(),
+                today,
+                urgent,
+                cursor.getBucket(),
+                priorityRank,
+                cursor.getTimestamp(),
+                cursor.getId(),
+                limit
+            );
+        } else {
+            rows = taskRepository.findMainTasksAfter(
+                today,
+                urgent,
+                cursor.getBucket(),
+                priorityRank,
+                cursor.getTimestamp(),
+                cursor.getId(),
+                limit
+            );
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Task> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        PaginationDto pagination = new PaginationDto();
+        pagination.setPage(0);
+        pagination.setSize(size);
+        pagination.setFirst(cursor == TaskCursor.START);
+        pagination.setHasPrevious(cursor != TaskCursor.START);
+        pagination.setHasNext(hasNext);
+        pagination.setLast(!hasNext);
+        if (hasNext) {
+            Task last = pageRows.get(pageRows.size() - 1);
+            pagination.setNextCursor(new TaskCursor(
+                urgencyBucket(last, today, urgent),
+                priorityRank(last),
+                filtered ? last.getUpdatedAt() : last.getCreatedAt(),
+                last.getId(),
+                filterHash,
+                today
+            ).encode());
+        }
+
+        // Totals cost a full count, so they are opt-in (-1 means not counted)
+        if (includeTotal) {
+            long total = filtered
+                ? taskRepository.countTasksWithFilter(
+                    filter.getStatus(),
+                    filter.getPriority(),
+                    filter.getComplexity(),
+                    filter.getType(),
+                    filter.getDeadlineFrom(),
+                    filter.getDeadlineTo())
+                : taskRepository.countByParentIdIsNull();
+            pagination.setTotalElements(total);
+            pagination.setTotalPages((int) ((total + size - 1) / size));
+        } else {
+            pagination.setTotalElements(-1);
+            pagination.setTotalPages(-1);
+        }
+
+        List<Task> enrichedTasks = applyPostFilters(enrichTasksWithCalculatedFields(pageRows), filter);
+
+        subtaskLoader.attachSubtasks(enrichedTasks);
+
+        PaginatedTaskResponse response = new PaginatedTaskResponse();
+        response.setSuccess(true);
+        response.setTasks(enrichedTasks.stream().map(this::convertToDto).toList());
+        response.setPagination(pagination);
+        return response;
+    }
+
     /**
      * Bulk update tasks for Studio interface
      */
@@ -297,82 +483,135 @@ public class TaskService {
         );
 
         List<Task> tasks = taskRepository.findByIdIn(request.getTaskIds());
-        
+        if (tasks.isEmpty()) {
+            return result;
+        }
+
+        // One set-based statement per step instead of a full load/save cycle per task
+        boolean applied = applyBulkOperation(tasks, request);
+        if (applied) {
+            List<Long> ids = tasks.stream().map(Task::getId).toList();
+            String operation = request.getOperation().toLowerCase();
+            eventPublisher.publishEvent("complete".equals(operation) || "delete".equals(operation)
+                    ? TaskChangedEvent.withSubtrees(ids)
+                    : TaskChangedEvent.of(ids));
+        }
         for (Task task : tasks) {
-            try {
-                boolean success = processBulkOperation(task, request);
-                if (success) {
-                    result.addSuccess(task.getId());
-                } else {
-                    result.addError("Failed to process task: " + task.getTitle());
-                }
-            } catch (Exception e) {
-                result.addError("Error processing task " + task.getId() + ": " + e.getMessage());
+            if (applied) {
+                result.addSuccess(task.getId());
+            } else {
+                result.addError("Failed to process task: " + task.getTitle());
             }
         }
 
+        if (applied) {
+            invalidateStatistics();
+        }
         return result;
     }
 
     /**
      * Get task statistics for Studio dashboard
+     * One aggregate query; the result is reused for a short TTL until the next write
      */
     @Transactional(readOnly = true)
     public TaskStatsDto getTaskStatistics() {
-        TaskStatsDto stats = new TaskStatsDto();
-        
-        stats.setTotalTasks(taskRepository.countMainTasksByStatus("todo") + 
-                           taskRepository.countMainTasksByStatus("doing"));
-        stats.setCompletedTasks(taskRepository.countMainTasksByStatus("done"));
-        stats.setOverdueTasks(taskRepository.findOverdueTasks(DateUtils.today()).size());
-        stats.setUrgentTasks(taskRepository.findUrgentTasks(DateUtils.today(), DateUtils.today().plusDays(3)).size());
-        
-        stats.setHighPriorityTasks(taskRepository.countMainTasksByPriority("high"));
-        stats.setMediumPriorityTasks(taskRepository.countMainTasksByPriority("medium"));
-        stats.setLowPriorityTasks(taskRepository.countMainTasksByPriority("low"));
-        
-        stats.setDeadlineTasks(taskRepository.countMainTasksByType("deadline"));
-        stats.setHabitTasks(taskRepository.countMainTasksByType("habit"));
-        stats.setReminderTasks(taskRepository.countMainTasksByType("reminder"));
-        stats.setEventTasks(taskRepository.countMainTasksByType("event"));
-        
+        LocalDate today = DateUtils.today();
+        // Taken before the query: a write committing while it runs leaves the result already stale
+        long generation = statsGeneration.get();
+        CachedStats cached = cachedStats;
+        if (cached != null && cached.generation == generation && cached.date.equals(today)
+                && System.currentTimeMillis() - cached.computedAt < statsCacheTtlMs) {
+            return cached.stats;
+        }
+
+        TaskStatsDto stats = taskRepository.aggregateTaskStatistics(today, today.plusDays(3));
+        if (statsCacheTtlMs > 0) {
+            cachedStats = new CachedStats(stats, generation, today, System.currentTimeMillis());
+        }
         return stats;
     }
 
     /**
-     * Update parent task progress based on subtasks completion
+     * Retire the cached statistics once the current write commits
      */
-    private void updateParentProgress(Long parentId) {
-        Optional<Task> parentOpt = taskRepository.findById(parentId);
-        if (parentOpt.isEmpty()) {
-            return;
+    private void invalidateStatistics() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statsGeneration.incrementAndGet();
+                }
+            });
+        } else {
+            statsGeneration.incrementAndGet();
         }
+    }
 
-        Task parent = parentOpt.get();
-        List<Task> subtasks = taskRepository.findByParentId(parentId);
+    /**
+     * Apply a change in direct subtasks to a parent, then carry it up the hierarchy.
+     * The ancestor chain is loaded in one query and the walk stops at the first task
+     * whose completion did not change, since nothing above it is affected.
+     */
+    private void rollUpProgress(Long parentId, int countDelta, int doneDelta) {
+        List<Long> touched = new ArrayList<>();
+        for (Task ancestor : taskRepository.findSelfAndAncestors(parentId)) {
+            boolean wasDone = ancestor.isCompleted();
+            ancestor.setSubtaskCount(ancestor.getSubtaskCount() + countDelta);
+            ancestor.setSubtaskDoneCount(ancestor.getSubtaskDoneCount() + doneDelta);
+            applyProgressFromCounters(ancestor);
+            taskRepository.save(ancestor);
+            touched.add(ancestor.getId());
+
+            // Only a newly completed task changes its own parent's counters
+            if (wasDone || !ancestor.isCompleted()) {
+                break;
+            }
+            countDelta = 0;
+            doneDelta = 1;
+        }
+        if (!touched.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.of(touched));
+        }
+    }
 
-        if (subtasks.isEmpty()) {
+    /**
+     * Update parent task progress and status from its subtask counters
+     */
+    private void applyProgressFromCounters(Task parent) {
+        int totalSubtasks = parent.getSubtaskCount();
+        if (totalSubtasks == 0) {
             return;
         }
 
-        // Count completed subtasks
-        long completedSubtasks = subtasks.stream()
-                .filter(task -> "done".equals(task.getStatus()))
-                .count();
-
-        parent.setProgressCurrent((int) completedSubtasks);
-        parent.setProgressTotal(subtasks.size());
+        int completedSubtasks = parent.getSubtaskDoneCount();
+        parent.setProgressCurrent(completedSubtasks);
+        parent.setProgressTotal(totalSubtasks);
 
         // If all subtasks are done, mark parent as done too
-        if (completedSubtasks == subtasks.size()) {
-            parent.setStatus("done");
-            parent.setCompletedAt(LocalDateTime.now());
-        } else if (completedSubtasks > 0 && "todo".equals(parent.getStatus())) {
+        if (completedSubtasks == totalSubtasks) {
+            if (!parent.isCompleted()) {
+                parent.setStatus(TaskStatus.DONE);
+                parent.setCompletedAt(LocalDateTime.now());
+            }
+        } else if (completedSubtasks > 0 && parent.getStatus() == TaskStatus.TODO) {
             // If some progress made, change status to 'doing'
-            parent.setStatus("doing");
+            parent.setStatus(TaskStatus.DOING);
         }
+    }
 
-        taskRepository.save(parent);
+    /**
+     * Nest a flat list of descendants under their parents, starting at root
+     */
+    private void attachSubtasks(Task root, List<Task> descendants) {
+        Map<Long, List<Task>> childrenByParent = new HashMap<>();
+        for (Task descendant : descendants) {
+            childrenByParent.computeIfAbsent(descendant.getParentId(), key -> new ArrayList<>()).add(descendant);
+        }
+        root.setSubtasks(childrenByParent.getOrDefault(root.getId(), List.of()));
+        for (Task descendant : descendants) {
+            descendant.setSubtasks(childrenByParent.getOrDefault(descendant.getId(), List.of()));
+        }
     }
 
     /**
@@ -400,40 +639,40 @@ public class TaskService {
     /**
      * Auto-detect task type based on title keywords
      */
-    private String autoDetectTypeIfNeeded(String currentType, String title) {
-        if (currentType != null && !currentType.equals("deadline")) {
+    private TaskType autoDetectTypeIfNeeded(TaskType currentType, String title) {
+        if (currentType != null && currentType != TaskType.DEADLINE) {
             return currentType; // Don't override if already set to something specific
         }
 
-        if (title == null) return "deadline";
+        if (title == null) return TaskType.DEADLINE;
 
         String lowerTitle = title.toLowerCase();
 
         // Check for habit/learning keywords
         if (lowerTitle.contains("tập") || lowerTitle.contains("học") || 
             lowerTitle.contains("practice") || lowerTitle.contains("learn")) {
-            return "habit";
+            return TaskType.HABIT;
         }
 
         // Check for reminder keywords
         if (lowerTitle.contains("nghĩ") || lowerTitle.contains("nhớ") || 
             lowerTitle.contains("consider") || lowerTitle.contains("think about")) {
-            return "reminder";
+            return TaskType.REMINDER;
         }
 
         // Default to deadline
-        return "deadline";
+        return TaskType.DEADLINE;
     }
 
     /**
      * Auto-detect complexity based on title keywords
      */
-    private String autoDetectComplexityIfNeeded(String currentComplexity, String title) {
-        if (currentComplexity != null && !currentComplexity.equals("medium")) {
+    private TaskComplexity autoDetectComplexityIfNeeded(TaskComplexity currentComplexity, String title) {
+        if (currentComplexity != null && currentComplexity != TaskComplexity.MEDIUM) {
             return currentComplexity; // Don't override if explicitly set
         }
 
-        if (title == null) return "medium";
+        if (title == null) return TaskComplexity.MEDIUM;
 
         String lowerTitle = title.toLowerCase();
 
@@ -441,17 +680,17 @@ public class TaskService {
         if (lowerTitle.contains("reply") || lowerTitle.contains("email") || 
             lowerTitle.contains("call") || lowerTitle.contains("backup") ||
             lowerTitle.contains("gọi") || lowerTitle.contains("trả lời")) {
-            return "easy";
+            return TaskComplexity.EASY;
         }
 
         // Hard task indicators
         if (lowerTitle.contains("design") || lowerTitle.contains("develop") || 
             lowerTitle.contains("research") || lowerTitle.contains("thiết kế") ||
             lowerTitle.contains("phát triển") || lowerTitle.contains("nghiên cứu")) {
-            return "hard";
+            return TaskComplexity.HARD;
         }
 
-        return "medium";
+        return TaskComplexity.MEDIUM;
     }
 
     /**
@@ -486,6 +725,10 @@ public class TaskService {
         dto.setOverdue(task.isOverdue());
         dto.setUrgent(task.isUrgent());
 
+        if (task.getSubtasks() != null) {
+            dto.setSubtasks(task.getSubtasks().stream().map(this::convertToDto).toList());
+        }
+
         return dto;
     }
 
@@ -505,16 +748,45 @@ public class TaskService {
                 filter.getIsUrgent() == null);
     }
 
-    private boolean matchesPostFilters(Task task, TaskFilterDto filter) {
-        if (filter.getIsOverdue() != null && filter.getIsOverdue() != task.isOverdue()) {
+    // Same buckets as TaskRepository.URGENCY_BUCKET
+    private int urgencyBucket(Task task, LocalDate today, LocalDate urgent) {
+        if (task.getDeadline() == null) return 3;
+        if (task.getDeadline().isBefore(today)) return 1;
+        if (!task.getDeadline().isAfter(urgent)) return 2;
+        return 3;
+    }
+
+    // Same ranks as TaskRepository.PRIORITY_RANK
+    private int priorityRank(Task task) {
+        return task.getPriority() != null ? task.getPriority().getCode() : TaskPriority.LOW.getCode();
+    }
+
+    private List<Task> applyPostFilters(List<Task> tasks, TaskFilterDto filter) {
+        if (filter == null || (filter.getIsOverdue() == null && filter.getIsUrgent() == null && filter.getHasSubtasks() == null)) {
+            return tasks;
+        }
+
+        // Open tasks are looked up in the live deadline index (overdue: due by yesterday, urgent: by tomorrow)
+        LocalDate today = DateUtils.today();
+        Predicate<Long> overdue = filter.getIsOverdue() != null ? liveWorkspace.dueBy(today.minusDays(1)) : null;
+        Predicate<Long> urgent = filter.getIsUrgent() != null ? liveWorkspace.dueBy(today.plusDays(1)) : null;
+        return tasks.stream()
+                .filter(task -> matchesPostFilters(task, filter, overdue, urgent))
+                .toList();
+    }
+
+    private boolean matchesPostFilters(Task task, TaskFilterDto filter, Predicate<Long> overdue, Predicate<Long> urgent) {
+        // Done tasks are not indexed; their own deadline decides
+        if (filter.getIsOverdue() != null
+                && filter.getIsOverdue() != (task.isCompleted() ? task.isOverdue() : overdue.test(task.getId()))) {
             return false;
         }
-        if (filter.getIsUrgent() != null && filter.getIsUrgent() != task.isUrgent()) {
+        if (filter.getIsUrgent() != null
+                && filter.getIsUrgent() != (task.isCompleted() ? task.isUrgent() : urgent.test(task.getId()))) {
             return false;
         }
         if (filter.getHasSubtasks() != null) {
-            List<Task> subtasks = taskRepository.findByParentId(task.getId());
-            boolean hasSubtasks = !subtasks.isEmpty();
+            boolean hasSubtasks = task.getSubtaskCount() > 0;
             if (filter.getHasSubtasks() != hasSubtasks) {
                 return false;
             }
@@ -522,89 +794,91 @@ public class TaskService {
         return true;
     }
 
-    private boolean processBulkOperation(Task task, BulkUpdateRequest request) {
+    private boolean applyBulkOperation(List<Task> tasks, BulkUpdateRequest request) {
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+
         switch (request.getOperation().toLowerCase()) {
             case "complete":
-                return completeTask(task.getId());
-                
+                // Completing a task completes its whole subtree too
+                taskRepository.completeSubtrees(ids, now);
+                recountSubtasks(tasks, Set.of());
+                updateParentsProgress(tasks, Set.of());
+                return true;
+
             case "snooze":
                 int days = request.getSnoozeDays() != null ? request.getSnoozeDays() : 1;
-                return snoozeTask(task.getId(), LocalDateTime.now().plusDays(days));
-                
+                taskRepository.snoozeByIds(ids, now.plusDays(days), now);
+                recountSubtasks(tasks, Set.of());
+                updateParentsProgress(tasks, Set.of());
+                return true;
+
             case "update_status":
                 if (request.getNewStatus() != null) {
-                    task.setStatus(request.getNewStatus());
-                    taskRepository.save(task);
+                    taskRepository.updateStatusByIds(ids, request.getNewStatus(), now);
+                    recountSubtasks(tasks, Set.of());
+                    updateParentsProgress(tasks, Set.of());
                     return true;
                 }
                 break;
-                
+
             case "update_priority":
                 if (request.getNewPriority() != null) {
-                    task.setPriority(request.getNewPriority());
-                    taskRepository.save(task);
+                    taskRepository.updatePriorityByIds(ids, request.getNewPriority(), now);
                     return true;
                 }
                 break;
-                
+
             case "update_complexity":
                 if (request.getNewComplexity() != null) {
-                    task.setComplexity(request.getNewComplexity());
-                    taskRepository.save(task);
+                    taskRepository.updateComplexityByIds(ids, request.getNewComplexity(), now);
                     return true;
                 }
                 break;
-                
+
             case "update_deadline":
-                task.setDeadline(request.getNewDeadline());
-                taskRepository.save(task);
+                taskRepository.updateDeadlineByIds(ids, request.getNewDeadline(), now);
                 return true;
-                
+
             case "delete":
-                return deleteTask(task.getId());
-                
+                taskRepository.deleteSubtrees(ids);
+                recountSubtasks(tasks, new HashSet<>(ids));
+                updateParentsProgress(tasks, new HashSet<>(ids));
+                return true;
+
             default:
                 return false;
         }
         return false;
     }
 
-    // Simple stats DTO
-    public static class TaskStatsDto {
-        private long totalTasks;
-        private long completedTasks;
-        private long overdueTasks;
-        private long urgentTasks;
-        private long highPriorityTasks;
-        private long mediumPriorityTasks;
-        private long lowPriorityTasks;
-        private long deadlineTasks;
-        private long habitTasks;
-        private long reminderTasks;
-        private long eventTasks;
-
-        // Getters and setters
-        public long getTotalTasks() { return totalTasks; }
-        public void setTotalTasks(long totalTasks) { this.totalTasks = totalTasks; }
-        public long getCompletedTasks() { return completedTasks; }
-        public void setCompletedTasks(long completedTasks) { this.completedTasks = completedTasks; }
-        public long getOverdueTasks() { return overdueTasks; }
-        public void setOverdueTasks(long overdueTasks) { this.overdueTasks = overdueTasks; }
-        public long getUrgentTasks() { return urgentTasks; }
-        public void setUrgentTasks(long urgentTasks) { this.urgentTasks = urgentTasks; }
-        public long getHighPriorityTasks() { return highPriorityTasks; }
-        public void setHighPriorityTasks(long highPriorityTasks) { this.highPriorityTasks = highPriorityTasks; }
-        public long getMediumPriorityTasks() { return mediumPriorityTasks; }
-        public void setMediumPriorityTasks(long mediumPriorityTasks) { this.mediumPriorityTasks = mediumPriorityTasks; }
-        public long getLowPriorityTasks() { return lowPriorityTasks; }
-        public void setLowPriorityTasks(long lowPriorityTasks) { this.lowPriorityTasks = lowPriorityTasks; }
-        public long getDeadlineTasks() { return deadlineTasks; }
-        public void setDeadlineTasks(long deadlineTasks) { this.deadlineTasks = deadlineTasks; }
-        public long getHabitTasks() { return habitTasks; }
-        public void setHabitTasks(long habitTasks) { this.habitTasks = habitTasks; }
-        public long getReminderTasks() { return reminderTasks; }
-        public void setReminderTasks(long reminderTasks) { this.reminderTasks = reminderTasks; }
-        public long getEventTasks() { return eventTasks; }
-        public void setEventTasks(long eventTasks) { this.eventTasks = eventTasks; }
-    }
-}
\ No newline at end of file
+    /**
+     * Recount subtask counters of the parents touched by a bulk operation in one statement
+     */
+    private void recountSubtasks(List<Task> tasks, Set<Long> deletedIds) {
+        Set<Long> parentIds = new HashSet<>();
+        tasks.stream()
+                .map(Task::getParentId)
+                .filter(parentId -> parentId != null && !deletedIds.contains(parentId))
+                .forEach(parentIds::add);
+        if (!parentIds.isEmpty()) {
+            taskRepository.recountSubtasks(parentIds);
+            eventPublisher.publishEvent(TaskChangedEvent.of(parentIds));
+        }
+    }
+
+    /**
+     * Recompute progress once per distinct parent touched by a bulk operation,
+     * carrying any completion further up the hierarchy
+     */
+    private void updateParentsProgress(List<Task> tasks, Set<Long> deletedIds) {
+        tasks.stream()
+                .map(Task::getParentId)
+                .filter(parentId -> parentId != null && !deletedIds.contains(parentId))
+                .distinct()
+                .forEach(parentId -> rollUpProgress(parentId, 0, 0));
+    }
+
+    private record CachedStats(TaskStatsDto stats, long generation, LocalDate date, long computedAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.sonic.taskmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Checks the running mood and workload counters against a full scan on a nightly schedule.
+ * LiveWorkspace adjusts them on every change event; a difference means an adjustment
+ * went wrong or a write skipped its event, so the live state is rebuilt from scratch.
+ * A write committed during the check can also show up as a difference; the rebuild is harmless.
+ */
+@Service
+public class WorkloadCounterReconcileJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadCounterReconcileJob.class);
+
+    private final LiveWorkspace liveWorkspace;
+
+    public WorkloadCounterReconcileJob(LiveWorkspace liveWorkspace) {
+        this.liveWorkspace = liveWorkspace;
+    }
+
+    @Scheduled(cron = "${sonic.workspace.workload-reconcile-cron:0 40 3 * * *}")
+    public void reconcile() {
+        String drift = liveWorkspace.findWorkloadDrift();
+        if (drift != null) {
+            logger.warn("Workload counters drifted from the database ({}), reloading", drift);
+            liveWorkspace.invalidate();
+        }
+    }
+}
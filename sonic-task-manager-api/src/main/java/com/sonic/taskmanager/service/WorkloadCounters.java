@@ -0,0 +1,255 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Running mood and workload totals over the open tasks that are active (not snoozed):
+ * task and main-task counts, overdue, urgent, high priority, hard and estimated hours.
+ *
+ * Each task write adjusts them by what the task added before and adds now, so mood and
+ * workload are read in constant time. A snoozed task is held aside until its snooze runs
+ * out; the day rollover moves the deadlines that became overdue or urgent (one step per
+ * deadline day crossed). Both happen in advanceTo. WorkloadCounterReconcileJob checks the
+ * totals against a full scan.
+ *
+ * Not thread-safe: LiveWorkspace keeps the live one under its lock, next to the rows it mirrors.
+ */
+class WorkloadCounters {
+
+    // Due by tomorrow, overdue included, counts as urgent
+    private static final int URGENT_DAYS = 1;
+
+    // What each open task adds, to take it back out when it changes
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    // Snoozed tasks by the moment they wake up, not in the totals yet
+    private final TreeMap<LocalDateTime, Set<Long>> snoozed = new TreeMap<>();
+    // Active tasks with a deadline, by epoch day, to move them along at the day rollover
+    private final TreeMap<Long, DayCount> deadlineDays = new TreeMap<>();
+
+    private LocalDateTime asOf;
+    private long today;
+
+    private int activeTasks;
+    private int urgentTasks;
+    private int mainTasks;
+    private int overdue;
+    private int urgent;
+    private int highPriority;
+    private int hard;
+    // Half-hour units keep the sum exact
+    private long estimatedHalfHours;
+
+    WorkloadCounters(LocalDateTime now) {
+        this.asOf = now;
+        this.today = now.toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Totals over the given open tasks as of now, for one-off workspace builds and the reconcile job
+     * Nothing is kept per task, so the result is only read: no put, remove or advanceTo
+     */
+    static WorkloadCounters of(Collection<Task> openTasks, LocalDateTime now) {
+        WorkloadCounters counters = new WorkloadCounters(now);
+        for (Task task : openTasks) {
+            if (task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now)) {
+                counters.addToTotals(Contribution.of(task), 1);
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Add or replace an open task
+     */
+    void put(Task task) {
+        remove(task.getId());
+        Contribution contribution = Contribution.of(task);
+        contributions.put(task.getId(), contribution);
+        if (contribution.snoozedUntil != null && contribution.snoozedUntil.isAfter(asOf)) {
+            snoozed.computeIfAbsent(contribution.snoozedUntil, key -> new HashSet<>()).add(task.getId());
+        } else {
+            apply(contribution, 1);
+        }
+    }
+
+    /**
+     * Drop a task that was completed or deleted; unknown ids are ignored
+     */
+    void remove(Long id) {
+        Contribution contribution = contributions.remove(id);
+        if (contribution == null) {
+            return;
+        }
+        if (!removeSnoozed(id, contribution.snoozedUntil)) {
+            apply(contribution, -1);
+        }
+    }
+
+    void clear() {
+        contributions.clear();
+        snoozed.clear();
+        deadlineDays.clear();
+        activeTasks = urgentTasks = mainTasks = overdue = urgent = highPriority = hard = 0;
+        estimatedHalfHours = 0;
+    }
+
+    /**
+     * Move the totals on to now: deadlines the day rollover made overdue or urgent, snoozes that ran out
+     */
+    void advanceTo(LocalDateTime now) {
+        if (!now.isAfter(asOf)) {
+            return;
+        }
+
+        long newToday = now.toLocalDate().toEpochDay();
+        if (newToday > today) {
+            // Due from the old today up to yesterday became overdue
+            for (DayCount day : deadlineDays.subMap(today, true, newToday, false).values()) {
+                overdue += day.mainTasks;
+            }
+            // Due after the old urgent window up to the new one became urgent
+            for (DayCount day : deadlineDays.subMap(today + URGENT_DAYS, false, newToday + URGENT_DAYS, true).values()) {
+                urgent += day.mainTasks;
+                urgentTasks += day.tasks;
+            }
+            today = newToday;
+        }
+        asOf = now;
+
+        Map<LocalDateTime, Set<Long>> woken = snoozed.headMap(now, true);
+        for (Set<Long> ids : woken.values()) {
+            for (Long id : ids) {
+                apply(contributions.get(id), 1);
+            }
+        }
+        woken.clear();
+    }
+
+    private boolean removeSnoozed(Long id, LocalDateTime until) {
+        Set<Long> ids = until != null ? snoozed.get(until) : null;
+        if (ids == null || !ids.remove(id)) {
+            return false;
+        }
+        if (ids.isEmpty()) {
+            snoozed.remove(until);
+        }
+        return true;
+    }
+
+    private void apply(Contribution task, int sign) {
+        if (task.deadlineDay != null) {
+            DayCount day = deadlineDays.computeIfAbsent(task.deadlineDay, key -> new DayCount());
+            day.tasks += sign;
+            if (task.main) {
+                day.mainTasks += sign;
+            }
+            if (day.tasks == 0) {
+                deadlineDays.remove(task.deadlineDay);
+            }
+        }
+        addToTotals(task, sign);
+    }
+
+    private void addToTotals(Contribution task, int sign) {
+        activeTasks += sign;
+        boolean isUrgent = task.deadlineDay != null && task.deadlineDay <= today + URGENT_DAYS;
+        if (isUrgent) {
+            urgentTasks += sign;
+        }
+        if (!task.main) {
+            return;
+        }
+
+        mainTasks += sign;
+        if (task.deadlineDay != null && task.deadlineDay < today) overdue += sign;
+        if (isUrgent) urgent += sign;
+        if (task.highPriority) highPriority += sign;
+        if (task.hard) hard += sign;
+        estimatedHalfHours += sign * task.estimatedHalfHours;
+    }
+
+    MoodCalculatorService.StressCounts getStress() {
+        return new MoodCalculatorService.StressCounts(activeTasks, mainTasks, overdue, urgent, highPriority, hard);
+    }
+
+    /**
+     * Any active task, subtasks included, overdue or due by tomorrow
+     */
+    boolean hasUrgentTasks() {
+        return urgentTasks > 0;
+    }
+
+    int getMainTasks() {
+        return mainTasks;
+    }
+
+    /**
+     * Active main tasks overdue or due by tomorrow
+     */
+    int getUrgentMainTasks() {
+        return urgent;
+    }
+
+    double getEstimatedHours() {
+        return estimatedHalfHours / 2.0;
+    }
+
+    /**
+     * Name of the first total that differs from the other's, null if they all agree
+     */
+    String findDifference(WorkloadCounters other) {
+        if (activeTasks != other.activeTasks) return "active tasks";
+        if (urgentTasks != other.urgentTasks) return "urgent tasks";
+        if (mainTasks != other.mainTasks) return "main tasks";
+        if (overdue != other.overdue) return "overdue";
+        if (urgent != other.urgent) return "urgent";
+        if (highPriority != other.highPriority) return "high priority";
+        if (hard != other.hard) return "hard";
+        if (estimatedHalfHours != other.estimatedHalfHours) return "estimated hours";
+        return null;
+    }
+
+    /**
+     * Rough estimation of task hours based on complexity, in half hours
+     */
+    private static int estimateHalfHours(TaskComplexity complexity) {
+        if (complexity == null) return 2;
+
+        return switch (complexity) {
+            case EASY -> 1;
+            case MEDIUM -> 4;
+            case HARD -> 8;
+        };
+    }
+
+    private record Contribution(boolean main, Long deadlineDay, LocalDateTime snoozedUntil,
+                                boolean highPriority, boolean hard, int estimatedHalfHours) {
+
+        static Contribution of(Task task) {
+            LocalDate deadline = task.getDeadline();
+            return new Contribution(
+                task.getParentId() == null,
+                deadline != null ? deadline.toEpochDay() : null,
+                task.getSnoozedUntil(),
+                task.getPriority() == TaskPriority.HIGH,
+                task.getComplexity() == TaskComplexity.HARD,
+                estimateHalfHours(task.getComplexity()));
+        }
+    }
+
+    private static final class DayCount {
+        private int tasks;
+        private int mainTasks;
+    }
+}
@@ -0,0 +1,91 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.util.FocusCalculator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gathers everything the workspace needs in one walk over the open tasks:
+ * main tasks to rank (focus and next-up), quick wins, reminder candidates
+ * and the habits section flag.
+ * Filters match the per-section rules in WorkspaceService; mood and workload
+ * totals are kept separately, see WorkloadCounters.
+ */
+class WorkspaceAccumulator {
+
+    // Limit to 4 quick wins
+    static final int QUICK_WIN_LIMIT = 4;
+
+    private final FocusCalculator focusCalculator;
+    private final LocalDateTime now;
+    private final LocalDate today;
+    private final LocalDateTime reminderThreshold;
+
+    // Open main tasks, in the order given, for focus and next up
+    private final List<Task> mainTasks = new ArrayList<>();
+
+    private final List<Task> quickWins = new ArrayList<>(QUICK_WIN_LIMIT);
+    private final List<Task> reminderCandidates = new ArrayList<>();
+
+    private boolean anyHabit;
+
+    WorkspaceAccumulator(FocusCalculator focusCalculator, LocalDateTime now) {
+        this.focusCalculator = focusCalculator;
+        this.now = now;
+        this.today = now.toLocalDate();
+        this.reminderThreshold = now.minusDays(ReminderService.REMINDER_QUIET_DAYS);
+    }
+
+    void add(Task task) {
+        // Active tasks only: not snoozed (open tasks are never done)
+        if (task.getSnoozedUntil() != null && task.getSnoozedUntil().isAfter(now)) {
+            return;
+        }
+
+        // Enrich with calculated fields
+        task.setDaysUntilDeadline(focusCalculator.calculateDaysUntilDeadline(task, today));
+        task.setUrgencyLevel(focusCalculator.calculateUrgencyLevel(task, today));
+
+        anyHabit |= task.getType() == TaskType.HABIT;
+
+        if (task.getType() == TaskType.REMINDER && task.getStatus() == TaskStatus.TODO
+                && task.getUpdatedAt() != null && !task.getUpdatedAt().isAfter(reminderThreshold)) {
+            reminderCandidates.add(task);
+        }
+
+        if (task.getParentId() != null || task.isCompleted()) {
+            return;
+        }
+
+        mainTasks.add(task);
+
+        if (quickWins.size() < QUICK_WIN_LIMIT && task.getStatus() == TaskStatus.TODO
+                && task.getPriority() == TaskPriority.HIGH && task.getComplexity() == TaskComplexity.EASY) {
+            quickWins.add(task);
+        }
+    }
+
+    List<Task> getMainTasks() {
+        return mainTasks;
+    }
+
+    List<Task> getQuickWins() {
+        return quickWins;
+    }
+
+    List<Task> getReminderCandidates() {
+        return reminderCandidates;
+    }
+
+    boolean hasHabits() {
+        return anyHabit;
+    }
+}
@@ -0,0 +1,97 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.dto.WorkspaceDto;
+import com.sonic.taskmanager.repository.FocusScoreStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compares the LiveWorkspace snapshot with a workspace recomputed from the database.
+ * A mismatch means some write skipped its TaskChangedEvent; it is logged and the
+ * snapshot is rebuilt from scratch. The live focus task and next up stack come from
+ * the stored focus scores while the recompute scores in memory, so a mismatch there
+ * also rescores the rows. Disabled unless a cron is configured.
+ */
+@Service
+public class WorkspaceConsistencyChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceConsistencyChecker.class);
+
+    private static final String FOCUS_MISMATCH = "focus task";
+    private static final String NEXT_UP_MISMATCH = "next up stack";
+
+    private final LiveWorkspace liveWorkspace;
+    private final WorkspaceService workspaceService;
+    private final FocusScoreStore focusScoreStore;
+
+    public WorkspaceConsistencyChecker(LiveWorkspace liveWorkspace, WorkspaceService workspaceService,
+                                       FocusScoreStore focusScoreStore) {
+        this.liveWorkspace = liveWorkspace;
+        this.workspaceService = workspaceService;
+        this.focusScoreStore = focusScoreStore;
+    }
+
+    @Scheduled(cron = "${sonic.workspace.consistency-check-cron:-}")
+    public void check() {
+        WorkspaceDto live = liveWorkspace.snapshot();
+        WorkspaceDto full = workspaceService.calculateTodaysWorkspace();
+
+        String mismatch = findMismatch(live, full);
+        if (mismatch == null) {
+            return;
+        }
+        logger.warn("Live workspace drifted from the database ({}), reloading", mismatch);
+        if (mismatch.equals(FOCUS_MISMATCH) || mismatch.equals(NEXT_UP_MISMATCH)) {
+            // Either a missed write or stored scores that disagree with FocusCalculator
+            focusScoreStore.rescoreAll();
+        }
+        liveWorkspace.invalidate();
+    }
+
+    private String findMismatch(WorkspaceDto live, WorkspaceDto full) {
+        if (!Objects.equals(idOf(live.getFocusTask()), idOf(full.getFocusTask()))) {
+            return FOCUS_MISMATCH;
+        }
+        if (!ids(live.getNextUpStack()).equals(ids(full.getNextUpStack()))) {
+            return NEXT_UP_MISMATCH;
+        }
+        if (!ids(live.getQuickWins()).equals(ids(full.getQuickWins()))) {
+            return "quick wins";
+        }
+        if (!ids(live.getActiveReminders()).equals(ids(full.getActiveReminders()))) {
+            return "reminders";
+        }
+        if (!Objects.equals(live.getDailyMood(), full.getDailyMood())) {
+            return "daily mood";
+        }
+
+        WorkspaceDto.ShowSectionsDto a = live.getShowSections();
+        WorkspaceDto.ShowSectionsDto b = full.getShowSections();
+        if (a.isUrgentTasks() != b.isUrgentTasks() || a.isQuickWins() != b.isQuickWins()
+                || a.isHabits() != b.isHabits() || a.isReminders() != b.isReminders()) {
+            return "sections";
+        }
+
+        WorkspaceDto.WorkloadAssessmentDto x = live.getWorkloadAssessment();
+        WorkspaceDto.WorkloadAssessmentDto y = full.getWorkloadAssessment();
+        if (x.getTotalTasks() != y.getTotalTasks() || x.getUrgentCount() != y.getUrgentCount()
+                || x.getEstimatedHours() != y.getEstimatedHours()) {
+            return "workload";
+        }
+        return null;
+    }
+
+    private static Long idOf(Task task) {
+        return task != null ? task.getId() : null;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
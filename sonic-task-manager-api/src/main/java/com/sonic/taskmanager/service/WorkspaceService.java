@@ -1,6 +1,8 @@
 package com.sonic.taskmanager.service;
 
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.TaskScoringRow;
 import com.sonic.taskmanager.model.dto.WorkspaceDto;
 import com.sonic.taskmanager.repository.TaskRepository;
 import com.sonic.taskmanager.util.DateUtils;
@@ -8,27 +10,42 @@ import com.sonic.taskmanager.util.FocusCalculator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 @Service
 @Transactional(readOnly = true)
 public class WorkspaceService {
 
+    // Max items in the next up stack
+    static final int NEXT_UP_LIMIT = 8;
+
     private final TaskRepository taskRepository;
     private final FocusCalculator focusCalculator;
     private final ReminderService reminderService;
     private final MoodCalculatorService moodCalculatorService;
+    private final SubtaskLoader subtaskLoader;
+    private final FocusRankingService focusRankingService;
 
     public WorkspaceService(TaskRepository taskRepository, 
                            FocusCalculator focusCalculator,
                            ReminderService reminderService,
-                           MoodCalculatorService moodCalculatorService) {
+                           MoodCalculatorService moodCalculatorService,
+                           SubtaskLoader subtaskLoader,
+                           FocusRankingService focusRankingService) {
         this.taskRepository = taskRepository;
         this.focusCalculator = focusCalculator;
         this.reminderService = reminderService;
         this.moodCalculatorService = moodCalculatorService;
+        this.subtaskLoader = subtaskLoader;
+        this.focusRankingService = focusRankingService;
     }
 
     /**
@@ -36,21 +53,59 @@ public class WorkspaceService {
      * This is the main method that frontend calls
      */
     public WorkspaceDto calculateTodaysWorkspace() {
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
+        List<Task> openTasks = taskRepository.findOpenScoringRows().stream()
+                .map(TaskScoringRow::toTask)
+                .toList();
+        return computeWorkspace(openTasks, LocalDateTime.now());
+    }
+
+    /**
+     * Build the workspace from the given open tasks (snoozed included, in id order)
+     * Focus and next up are ranked in memory by FocusCalculator, so the full recompute is an
+     * independent check on LiveWorkspace and the stored scores it ranks by
+     * The tasks only need the TaskScoringRow columns; the few shown are reloaded in full
+     */
+    public WorkspaceDto computeWorkspace(Collection<Task> openTasks, LocalDateTime now) {
+        return computeWorkspace(openTasks, WorkloadCounters.of(openTasks, now), now, this::rankInMemory);
+    }
 
-        // Get all active tasks (not completed, not snoozed)
-        List<Task> allActiveTasks = taskRepository.findActiveTasks(now);
-        
-        // Enrich tasks with calculated fields
-        allActiveTasks = enrichTasksWithCalculatedFields(allActiveTasks);
+    /**
+     * Same, for LiveWorkspace: rows it keeps in step with the database and workload counters
+     * over exactly these tasks, advanced to now
+     * Focus and next up come from the stored focus scores (FocusRankingService) instead of
+     * scoring every main task
+     */
+    WorkspaceDto computeLiveWorkspace(Collection<Task> openTasks, WorkloadCounters workload, LocalDateTime now) {
+        return computeWorkspace(openTasks, workload, now, this::rankByStoredScores);
+    }
+
+    private WorkspaceDto computeWorkspace(Collection<Task> openTasks, WorkloadCounters workload, LocalDateTime now,
+                                          BiFunction<List<Task>, LocalDateTime, FocusPicks> ranking) {
+        // One pass gathers what every section needs
+        WorkspaceAccumulator totals = new WorkspaceAccumulator(focusCalculator, now);
+        for (Task task : openTasks) {
+            totals.add(task);
+        }
+
+        // Pick what the workspace shows from the scoring columns alone
+        FocusPicks picks = ranking.apply(totals.getMainTasks(), now);
+        Task focusCandidate = picks.focus();
+        List<Task> nextUpCandidates = picks.nextUp();
+        List<Task> reminderCandidates = reminderService.selectActiveReminders(totals.getReminderCandidates(), now);
+
+        // One IN query for the full rows of just those tasks
+        Map<Long, Task> fullTasks = loadFullTasks(focusCandidate, nextUpCandidates,
+                totals.getQuickWins(), reminderCandidates);
 
         // Calculate main components
-        Task focusTask = calculateFocusTask(allActiveTasks);
-        List<Task> nextUpStack = calculateNextUpStack(allActiveTasks, focusTask);
-        List<Task> quickWins = calculateQuickWins(allActiveTasks);
-        List<Task> activeReminders = reminderService.getActiveReminders();
-        String dailyMood = moodCalculatorService.calculateDailyMood(allActiveTasks);
+        Task focusTask = calculateFocusTask(focusCandidate, fullTasks);
+        List<Task> nextUpStack = withFullRows(nextUpCandidates, fullTasks);
+        List<Task> quickWins = withFullRows(totals.getQuickWins(), fullTasks);
+        List<Task> activeReminders = withFullRows(reminderCandidates, fullTasks);
+        String dailyMood = moodCalculatorService.calculateDailyMood(workload.getStress());
+
+        // Subtask previews for every card shown, one IN query
+        attachSubtasks(focusTask, nextUpStack, quickWins, activeReminders);
 
         // Build workspace DTO
         WorkspaceDto workspace = new WorkspaceDto();
@@ -61,88 +116,163 @@ public class WorkspaceService {
         workspace.setDailyMood(dailyMood);
 
         // Determine which sections to show
-        WorkspaceDto.ShowSectionsDto showSections = calculateShowSections(allActiveTasks, activeReminders, quickWins);
+        WorkspaceDto.ShowSectionsDto showSections = calculateShowSections(totals, workload, activeReminders, quickWins);
         workspace.setShowSections(showSections);
 
         // Calculate workload assessment
-        WorkspaceDto.WorkloadAssessmentDto workloadAssessment = calculateWorkloadAssessment(allActiveTasks);
+        WorkspaceDto.WorkloadAssessmentDto workloadAssessment = calculateWorkloadAssessment(workload);
         workspace.setWorkloadAssessment(workloadAssessment);
 
         return workspace;
     }
 
     /**
-     * Calculate the best focus task for today
+     * Focus and next up by FocusCalculator, the main tasks scored as one batch
      */
-    private Task calculateFocusTask(List<Task> activeTasks) {
-        // Filter to main tasks only (no subtasks)
-        List<Task> mainTasks = activeTasks.stream()
-                .filter(task -> task.getParentId() == null)
-                .filter(task -> !"done".equals(task.getStatus()))
+    private FocusPicks rankInMemory(List<Task> mainTasks, LocalDateTime now) {
+        double[] scores = focusCalculator.scoreAll(mainTasks, now.toLocalDate());
+        int focusIndex = selectFocusIndex(scores);
+        Task focus = focusIndex >= 0 ? mainTasks.get(focusIndex) : null;
+        return new FocusPicks(focus, calculateNextUpStack(mainTasks, scores, focusIndex));
+    }
+
+    /**
+     * Focus and next up from the stored focus scores, the same ranking without scoring every task
+     * If the query sees a task the rows do not have yet (committed, its change event not applied),
+     * the rows are ranked in memory instead; that event triggers another build anyway
+     */
+    private FocusPicks rankByStoredScores(List<Task> mainTasks, LocalDateTime now) {
+        List<Long> focusIds = focusRankingService.findTopFocusTaskIds(1, false, now);
+        Long focusId = focusIds.isEmpty() ? null : focusIds.get(0);
+        // One extra, since the focus task may be among them
+        List<Long> nextUpIds = focusRankingService.findTopFocusTaskIds(NEXT_UP_LIMIT + 1, true, now).stream()
+                .filter(id -> !id.equals(focusId))
+                .limit(NEXT_UP_LIMIT)
                 .toList();
 
-        Task focusTask = focusCalculator.calculateFocusTask(mainTasks);
-        
-        if (focusTask != null) {
-            // Generate focus context if not already set
-            if (focusTask.getFocusContext() == null || focusTask.getFocusContext().trim().isEmpty()) {
-                focusTask.setFocusContext(focusCalculator.generateFocusContext(focusTask));
-            }
-            
-            // Load subtasks for the focus task
-            List<Task> subtasks = taskRepository.findByParentId(focusTask.getId());
-            focusTask.setSubtasks(enrichTasksWithCalculatedFields(subtasks));
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task task : mainTasks) {
+            byId.put(task.getId(), task);
+        }
+        Task focus = focusId != null ? byId.get(focusId) : null;
+        List<Task> nextUp = new ArrayList<>(nextUpIds.size());
+        for (Long id : nextUpIds) {
+            nextUp.add(byId.get(id));
+        }
+        if ((focusId != null && focus == null) || nextUp.contains(null)) {
+            return rankInMemory(mainTasks, now);
+        }
+        return new FocusPicks(focus, nextUp);
+    }
+
+    /**
+     * Index of the best focus candidate among the scored main tasks, -1 if none
+     */
+    private int selectFocusIndex(double[] scores) {
+        int[] best = focusCalculator.selectTop(scores, 1, i -> true);
+        return best.length > 0 ? best[0] : -1;
+    }
+
+    /**
+     * Calculate the best focus task for today
+     */
+    private Task calculateFocusTask(Task candidate, Map<Long, Task> fullTasks) {
+        if (candidate == null || !fullTasks.containsKey(candidate.getId())) {
+            return null;
+        }
+
+        // Decorated copy, the loaded row itself may be shared with other workspace lists
+        Task focusTask = enrichTaskWithCalculatedFields(new Task(fullTasks.get(candidate.getId())));
+
+        // Generate focus context if not already set
+        if (focusTask.getFocusContext() == null || focusTask.getFocusContext().trim().isEmpty()) {
+            focusTask.setFocusContext(focusCalculator.generateFocusContext(focusTask));
         }
 
         return focusTask;
     }
 
     /**
-     * Calculate next up stack (other important tasks waiting)
+     * Full rows for every task the workspace shows, by id
      */
-    private List<Task> calculateNextUpStack(List<Task> activeTasks, Task focusTask) {
-        Long focusTaskId = focusTask != null ? focusTask.getId() : null;
-
-        return activeTasks.stream()
-                .filter(task -> task.getParentId() == null) // Main tasks only
-                .filter(task -> !"done".equals(task.getStatus()))
-                .filter(task -> !task.getId().equals(focusTaskId)) // Exclude focus task
-                .filter(task -> !"reminder".equals(task.getType())) // Exclude reminders
-                .sorted((t1, t2) -> {
-                    // Sort by focus score (highest first)
-                    double score1 = focusCalculator.calculateFocusScore(t1);
-                    double score2 = focusCalculator.calculateFocusScore(t2);
-                    return Double.compare(score2, score1);
-                })
-                .limit(8) // Limit to max 8 items in stack
-                .toList();
+    @SafeVarargs
+    private Map<Long, Task> loadFullTasks(Task focusCandidate, List<Task>... sections) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (focusCandidate != null) {
+            ids.add(focusCandidate.getId());
+        }
+        for (List<Task> section : sections) {
+            section.forEach(task -> ids.add(task.getId()));
+        }
+
+        Map<Long, Task> fullTasks = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Task task : taskRepository.findByIdIn(new ArrayList<>(ids))) {
+                fullTasks.put(task.getId(), task);
+            }
+        }
+        return fullTasks;
     }
 
     /**
-     * Calculate quick win tasks (high priority + easy)
+     * Set the direct subtasks on the focus task and every listed card
      */
-    private List<Task> calculateQuickWins(List<Task> activeTasks) {
-        return activeTasks.stream()
-                .filter(task -> task.getParentId() == null) // Main tasks only
-                .filter(task -> "todo".equals(task.getStatus()))
-                .filter(task -> "high".equals(task.getPriority()))
-                .filter(task -> "easy".equals(task.getComplexity()))
-                .limit(4) // Limit to 4 quick wins
-                .toList();
+    @SafeVarargs
+    private void attachSubtasks(Task focusTask, List<Task>... sections) {
+        List<Task> shown = new ArrayList<>();
+        if (focusTask != null) {
+            shown.add(focusTask);
+        }
+        for (List<Task> section : sections) {
+            shown.addAll(section);
+        }
+        subtaskLoader.attachSubtasks(shown);
+    }
+
+    /**
+     * Swap scoring rows for full copies, keeping the calculated fields
+     * A row deleted since scoring is dropped; its change event triggers another build
+     */
+    private List<Task> withFullRows(List<Task> candidates, Map<Long, Task> fullTasks) {
+        List<Task> tasks = new ArrayList<>(candidates.size());
+        for (Task candidate : candidates) {
+            Task full = fullTasks.get(candidate.getId());
+            if (full != null) {
+                Task task = new Task(full);
+                task.setDaysUntilDeadline(candidate.getDaysUntilDeadline());
+                task.setUrgencyLevel(candidate.getUrgencyLevel());
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Calculate next up stack (other important tasks waiting)
+     * Highest focus score first, excluding the focus task and reminders
+     */
+    private List<Task> calculateNextUpStack(List<Task> mainTasks, double[] scores, int focusIndex) {
+        int[] top = focusCalculator.selectTop(scores, NEXT_UP_LIMIT,
+                i -> i != focusIndex && mainTasks.get(i).getType() != TaskType.REMINDER);
+
+        List<Task> nextUp = new ArrayList<>(top.length);
+        for (int index : top) {
+            nextUp.add(mainTasks.get(index));
+        }
+        return nextUp;
     }
 
     /**
      * Determine which sections should be visible
      */
-    private WorkspaceDto.ShowSectionsDto calculateShowSections(List<Task> allTasks, 
+    private WorkspaceDto.ShowSectionsDto calculateShowSections(WorkspaceAccumulator totals,
+                                                              WorkloadCounters workload,
                                                               List<Task> reminders, 
                                                               List<Task> quickWins) {
         WorkspaceDto.ShowSectionsDto showSections = new WorkspaceDto.ShowSectionsDto();
 
         // Show urgent tasks if there are overdue or due today
-        boolean hasUrgentTasks = allTasks.stream()
-                .anyMatch(task -> task.isOverdue() || task.isUrgent());
-        showSections.setUrgentTasks(hasUrgentTasks);
+        showSections.setUrgentTasks(workload.hasUrgentTasks());
 
         // Show quick wins if available
         showSections.setQuickWins(!quickWins.isEmpty());
@@ -151,38 +281,25 @@ public class WorkspaceService {
         showSections.setReminders(!reminders.isEmpty());
 
         // Show habits if there are any habit tasks
-        boolean hasHabits = allTasks.stream()
-                .anyMatch(task -> "habit".equals(task.getType()));
-        showSections.setHabits(hasHabits);
+        showSections.setHabits(totals.hasHabits());
 
         return showSections;
     }
 
     /**
-     * Calculate workload assessment
+     * Calculate workload assessment from the running counters
      */
-    private WorkspaceDto.WorkloadAssessmentDto calculateWorkloadAssessment(List<Task> allTasks) {
+    private WorkspaceDto.WorkloadAssessmentDto calculateWorkloadAssessment(WorkloadCounters workload) {
         WorkspaceDto.WorkloadAssessmentDto assessment = new WorkspaceDto.WorkloadAssessmentDto();
 
         // Count active main tasks
-        List<Task> mainTasks = allTasks.stream()
-                .filter(task -> task.getParentId() == null)
-                .filter(task -> !"done".equals(task.getStatus()))
-                .toList();
-
-        assessment.setTotalTasks(mainTasks.size());
+        assessment.setTotalTasks(workload.getMainTasks());
 
         // Count urgent tasks
-        int urgentCount = (int) mainTasks.stream()
-                .filter(task -> task.isOverdue() || task.isUrgent())
-                .count();
-        assessment.setUrgentCount(urgentCount);
+        assessment.setUrgentCount(workload.getUrgentMainTasks());
 
         // Estimate total hours (rough calculation)
-        double estimatedHours = mainTasks.stream()
-                .mapToDouble(this::estimateTaskHours)
-                .sum();
-        assessment.setEstimatedHours(Math.round(estimatedHours * 10.0) / 10.0); // Round to 1 decimal
+        assessment.setEstimatedHours(Math.round(workload.getEstimatedHours() * 10.0) / 10.0); // Round to 1 decimal
 
         // Generate recommendation
         String recommendation = generateWorkloadRecommendation(assessment);
@@ -191,20 +308,6 @@ public class WorkspaceService {
         return assessment;
     }
 
-    /**
-     * Rough estimation of task hours based on complexity
-     */
-    private double estimateTaskHours(Task task) {
-        if (task.getComplexity() == null) return 1.0;
-        
-        return switch (task.getComplexity().toLowerCase()) {
-            case "easy" -> 0.5;
-            case "medium" -> 2.0;
-            case "hard" -> 4.0;
-            default -> 1.0;
-        };
-    }
-
     /**
      * Generate workload recommendation
      */
@@ -222,15 +325,6 @@ public class WorkspaceService {
         }
     }
 
-    /**
-     * Enrich tasks with calculated fields
-     */
-    private List<Task> enrichTasksWithCalculatedFields(List<Task> tasks) {
-        return tasks.stream()
-                .map(this::enrichTaskWithCalculatedFields)
-                .toList();
-    }
-
     /**
      * Enrich single task with calculated fields
      */
@@ -250,4 +344,7 @@ public class WorkspaceService {
     public WorkspaceDto refreshWorkspace() {
         return calculateTodaysWorkspace();
     }
+
+    private record FocusPicks(Task focus, List<Task> nextUp) {
+    }
 }
\ No newline at end of file
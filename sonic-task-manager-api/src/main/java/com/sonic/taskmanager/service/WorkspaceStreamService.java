@@ -0,0 +1,384 @@
+package com.sonic.taskmanager.service;
+
+import com.sonic.taskmanager.event.CalendarEpochEvent;
+import com.sonic.taskmanager.event.FocusScoringModelChangedEvent;
+import com.sonic.taskmanager.event.TaskChangedEvent;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.dto.WorkspaceDeltaDto;
+import com.sonic.taskmanager.model.dto.WorkspaceDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans workspace deltas out to SSE clients of /api/workspace/stream.
+ *
+ * Task writes and calendar epochs (passing time boundaries) trigger one
+ * shared recompute of the live workspace; the difference to the last published
+ * workspace becomes a handful of named events. Recent events are kept in a ring
+ * so reconnecting clients resume from Last-Event-ID. Every client has a bounded
+ * queue; a client that falls that far behind is disconnected instead of buffered.
+ */
+@Service
+public class WorkspaceStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceStreamService.class);
+
+    private final LiveWorkspace liveWorkspace;
+    private final long emitterTimeoutMs;
+    private final int clientBufferSize;
+    private final int replaySize;
+
+    // Event ids are "<bootNonce>:<sequence>", so ids from a previous process never resume
+    private final String bootNonce = Long.toString(System.currentTimeMillis(), 36);
+
+    // Recomputes run one at a time, off the writer's thread
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(r -> new Thread(r, "workspace-stream"));
+    private final ExecutorService senders = Executors.newFixedThreadPool(4, r -> new Thread(r, "workspace-stream-send"));
+    private final AtomicBoolean publishQueued = new AtomicBoolean();
+
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private final Deque<StreamEvent> recentEvents = new ArrayDeque<>();
+    private long sequence;
+    private WorkspaceDto published;
+
+    public WorkspaceStreamService(LiveWorkspace liveWorkspace,
+                                  @Value("${sonic.workspace.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                                  @Value("${sonic.workspace.stream.client-buffer:64}") int clientBufferSize,
+                                  @Value("${sonic.workspace.stream.replay-size:256}") int replaySize) {
+        this.liveWorkspace = liveWorkspace;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.clientBufferSize = clientBufferSize;
+        this.replaySize = replaySize;
+    }
+
+    /**
+     * Register a client; it first gets the missed events after lastEventId,
+     * or a full "snapshot" event when there is nothing to resume from (or too much)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Client client = new Client(emitter, clientBufferSize);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(error -> clients.remove(client));
+
+        synchronized (this) {
+            // Catch up first so the replay and the live events that follow line up
+            publishChanges();
+
+            List<StreamEvent> missed = eventsAfter(lastEventId);
+            if (missed != null && missed.size() < clientBufferSize) {
+                missed.forEach(client::offer);
+            } else {
+                client.offer(new StreamEvent(currentEventId(), "snapshot", published));
+            }
+            clients.add(client);
+        }
+        drain(client);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        schedulePublish();
+    }
+
+    /**
+     * Changes that come from the clock alone (midnight, a snooze ending)
+     */
+    @EventListener
+    public void onCalendarEpoch(CalendarEpochEvent event) {
+        schedulePublish();
+    }
+
+    /**
+     * New focus weights can reorder the whole workspace
+     */
+    @EventListener
+    public void onScoringModelChanged(FocusScoringModelChangedEvent event) {
+        schedulePublish();
+    }
+
+    /**
+     * Keeps idle connections open and lets dead ones fail
+     */
+    @Scheduled(fixedRateString = "${sonic.workspace.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (clients.isEmpty()) {
+            return;
+        }
+        for (Client client : clients) {
+            client.offer(StreamEvent.HEARTBEAT);
+            drain(client);
+        }
+    }
+
+    private void schedulePublish() {
+        // Nobody listening: the next subscriber catches up on its own
+        if (clients.isEmpty() || !publishQueued.compareAndSet(false, true)) {
+            return;
+        }
+        publisher.execute(() -> {
+            publishQueued.set(false);
+            try {
+                // Queue under the lock so a client subscribing meanwhile never gets these twice
+                synchronized (this) {
+                    List<StreamEvent> events = publishChanges();
+                    for (Client client : clients) {
+                        events.forEach(client::offer);
+                    }
+                }
+                clients.forEach(this::drain);
+            } catch (RuntimeException e) {
+                logger.warn("Workspace stream update failed", e);
+            }
+        });
+    }
+
+    /**
+     * Diff the live workspace against the last published one and record the deltas
+     */
+    private List<StreamEvent> publishChanges() {
+        WorkspaceDto current = liveWorkspace.snapshot();
+        if (published == null) {
+            published = current;
+            return List.of();
+        }
+
+        List<StreamEvent> events = new ArrayList<>();
+        if (!sameCard(published.getFocusTask(), current.getFocusTask())) {
+            WorkspaceDeltaDto delta = new WorkspaceDeltaDto();
+            delta.setFocusTask(current.getFocusTask());
+            events.add(record("focus", delta));
+        }
+        addListDelta(events, "next-up", published.getNextUpStack(), current.getNextUpStack());
+        addListDelta(events, "quick-wins", published.getQuickWins(), current.getQuickWins());
+        addListDelta(events, "reminders", published.getActiveReminders(), current.getActiveReminders());
+        if (!Objects.equals(published.getDailyMood(), current.getDailyMood())) {
+            WorkspaceDeltaDto delta = new WorkspaceDeltaDto();
+            delta.setDailyMood(current.getDailyMood());
+            events.add(record("mood", delta));
+        }
+        if (!sameOverview(published, current)) {
+            WorkspaceDeltaDto delta = new WorkspaceDeltaDto();
+            delta.setShowSections(current.getShowSections());
+            delta.setWorkloadAssessment(current.getWorkloadAssessment());
+            events.add(record("overview", delta));
+        }
+
+        published = current;
+        return events;
+    }
+
+    private void addListDelta(List<StreamEvent> events, String name, List<Task> before, List<Task> after) {
+        Map<Long, Task> previous = new HashMap<>();
+        before.forEach(task -> previous.put(task.getId(), task));
+
+        List<Long> ids = new ArrayList<>(after.size());
+        List<Task> changed = new ArrayList<>();
+        for (Task task : after) {
+            ids.add(task.getId());
+            if (!sameCard(previous.remove(task.getId()), task)) {
+                changed.add(task);
+            }
+        }
+        List<Long> removed = new ArrayList<>(previous.keySet());
+
+        boolean reordered = !ids.equals(before.stream().map(Task::getId).toList());
+        if (reordered || !changed.isEmpty()) {
+            WorkspaceDeltaDto delta = new WorkspaceDeltaDto();
+            delta.setTaskIds(ids);
+            delta.setTasks(changed);
+            delta.setRemoved(removed);
+            events.add(record(name, delta));
+        }
+    }
+
+    private StreamEvent record(String name, Object data) {
+        sequence++;
+        StreamEvent event = new StreamEvent(currentEventId(), name, data);
+        recentEvents.addLast(event);
+        while (recentEvents.size() > replaySize) {
+            recentEvents.removeFirst();
+        }
+        return event;
+    }
+
+    private String currentEventId() {
+        return bootNonce + ":" + sequence;
+    }
+
+    /**
+     * Events after the given id, or null when it can't be resumed (unknown, other process, fell out of the ring)
+     */
+    private List<StreamEvent> eventsAfter(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(bootNonce + ":")) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(bootNonce.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (last > sequence) {
+            return null;
+        }
+        long oldestKept = sequence - recentEvents.size();
+        if (last < oldestKept) {
+            return null;
+        }
+        List<StreamEvent> missed = new ArrayList<>();
+        long seq = oldestKept;
+        for (StreamEvent event : recentEvents) {
+            seq++;
+            if (seq > last) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private void drain(Client client) {
+        if (!client.sending.compareAndSet(false, true)) {
+            return;
+        }
+        senders.execute(() -> {
+            try {
+                StreamEvent event;
+                while ((event = client.queue.poll()) != null) {
+                    client.emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter callbacks remove it
+                clients.remove(client);
+                client.emitter.completeWithError(e);
+            } finally {
+                client.sending.set(false);
+            }
+            // Something may have been queued between the last poll and clearing the flag
+            if (!client.queue.isEmpty() && clients.contains(client)) {
+                drain(client);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        clients.forEach(client -> client.emitter.complete());
+        publisher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private static boolean sameTask(Task a, Task b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getId().equals(b.getId())
+                && Objects.equals(a.getUpdatedAt(), b.getUpdatedAt())
+                && Objects.equals(a.getDaysUntilDeadline(), b.getDaysUntilDeadline());
+    }
+
+    /**
+     * Same task and same subtask previews
+     */
+    private static boolean sameCard(Task a, Task b) {
+        return sameTask(a, b) && sameTasks(subtasksOf(a), subtasksOf(b));
+    }
+
+    private static boolean sameTasks(List<Task> a, List<Task> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!sameTask(a.get(i), b.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Task> subtasksOf(Task task) {
+        return task != null && task.getSubtasks() != null ? task.getSubtasks() : List.of();
+    }
+
+    private static boolean sameOverview(WorkspaceDto a, WorkspaceDto b) {
+        WorkspaceDto.ShowSectionsDto x = a.getShowSections();
+        WorkspaceDto.ShowSectionsDto y = b.getShowSections();
+        WorkspaceDto.WorkloadAssessmentDto p = a.getWorkloadAssessment();
+        WorkspaceDto.WorkloadAssessmentDto q = b.getWorkloadAssessment();
+        return x.isUrgentTasks() == y.isUrgentTasks() && x.isQuickWins() == y.isQuickWins()
+                && x.isHabits() == y.isHabits() && x.isReminders() == y.isReminders()
+                && p.getTotalTasks() == q.getTotalTasks() && p.getUrgentCount() == q.getUrgentCount()
+                && p.getEstimatedHours() == q.getEstimatedHours()
+                && Objects.equals(p.getRecommendation(), q.getRecommendation());
+    }
+
+    private static final class StreamEvent {
+
+        static final StreamEvent HEARTBEAT = new StreamEvent(null, null, null);
+
+        final String id;
+        final String name;
+        final Object data;
+
+        StreamEvent(String id, String name, Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Client {
+
+        final SseEmitter emitter;
+        final Queue<StreamEvent> queue;
+        final AtomicBoolean sending = new AtomicBoolean();
+
+        Client(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(StreamEvent event) {
+            if (!queue.offer(event)) {
+                // Too far behind: drop the client, it reconnects with Last-Event-ID
+                logger.info("Dropping slow workspace stream client ({} events queued)", queue.size());
+                clients.remove(this);
+                emitter.complete();
+            }
+        }
+    }
+}
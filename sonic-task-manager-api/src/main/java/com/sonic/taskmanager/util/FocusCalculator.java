@@ -1,15 +1,25 @@
 package com.sonic.taskmanager.util;
 
+import com.sonic.taskmanager.model.CodedEnum;
 import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskStatus;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
 
 @Component
 public class FocusCalculator {
 
+    private static final long NO_DEADLINE = FocusScoringModel.NO_DEADLINE;
+
+    // Replaced whole when the scoring preferences change; read once per batch
+    private volatile FocusScoringModel model = FocusScoringModel.defaults();
+
     /**
      * Determine the best task to focus on today
      * Based on priority, deadline urgency, and complexity
@@ -22,144 +32,187 @@ public class FocusCalculator {
         // Filter to main tasks only (no subtasks)
         List<Task> mainTasks = activeTasks.stream()
                 .filter(task -> task.getParentId() == null)
-                .filter(task -> !"done".equals(task.getStatus()))
+                .filter(task -> !task.isCompleted())
                 .toList();
 
-        if (mainTasks.isEmpty()) {
-            return null;
-        }
+        double[] scores = scoreAll(mainTasks, LocalDate.now());
+        int[] best = selectTop(scores, 1, i -> true);
+        return best.length > 0 ? mainTasks.get(best[0]) : null;
+    }
 
-        Task bestTask = null;
-        double highestScore = -1;
+    /**
+     * Score every task once against the same date; scores[i] belongs to tasks.get(i)
+     */
+    public double[] scoreAll(List<Task> tasks, LocalDate today) {
+        return scoreAll(encode(tasks), today);
+    }
 
-        for (Task task : mainTasks) {
-            double score = calculateFocusScore(task);
-            if (score > highestScore) {
-                highestScore = score;
-                bestTask = task;
-            }
+    /**
+     * Score an encoded batch against one date snapshot
+     * Table lookups on codes and epoch days only, no strings or dates per task
+     */
+    public double[] scoreAll(ScoringBatch batch, LocalDate today) {
+        FocusScoringModel current = model;
+        long todayDay = today.toEpochDay();
+        int size = batch.size();
+        double[] scores = new double[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = current.score(batch.priorities[i], batch.complexities[i],
+                    batch.deadlineDays[i], batch.flags[i], todayDay);
         }
-
-        return bestTask;
+        return scores;
     }
 
     /**
-     * Calculate focus score for a task
-     * Higher score = better candidate for focus
+     * Reduce tasks to the ordinal codes and epoch days the scoring tables are indexed by
      */
-    public double calculateFocusScore(Task task) {
-        double score = 0;
-
-        // Priority weight (most important factor)
-        score += getPriorityWeight(task.getPriority()) * 100;
-
-        // Deadline urgency (very important)
-        score += getUrgencyWeight(task) * 80;
+    public static ScoringBatch encode(List<Task> tasks) {
+        ScoringBatch batch = new ScoringBatch(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            batch.priorities[i] = code(task.getPriority());
+            batch.complexities[i] = code(task.getComplexity());
+            batch.deadlineDays[i] = task.getDeadline() != null ? task.getDeadline().toEpochDay() : NO_DEADLINE;
+            batch.flags[i] = scoringFlags(task);
+        }
+        return batch;
+    }
 
-        // Complexity bonus (prefer manageable tasks)
-        score += getComplexityWeight(task.getComplexity()) * 30;
+    /**
+     * Indices of the highest scores among the included ones, best first
+     * Equal scores keep their input order, like a stable sort would
+     * Uses a heap bounded at limit entries, so it is O(n log limit)
+     */
+    public int[] selectTop(double[] scores, int limit, IntPredicate include) {
+        // Worst retained entry at the head: lower score, or the later index on a tie
+        Comparator<Integer> worstFirst = (a, b) -> {
+            int byScore = Double.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : Integer.compare(b, a);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(limit, 1), worstFirst);
 
-        // Status bonus (prefer tasks that are already started)
-        if ("doing".equals(task.getStatus())) {
-            score += 50;
+        for (int i = 0; i < scores.length && limit > 0; i++) {
+            if (!include.test(i)) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (scores[i] > scores[heap.peek()]) {
+                // Later indices only displace on a strictly higher score
+                heap.poll();
+                heap.add(i);
+            }
         }
 
-        // Progress bonus (tasks with some progress)
-        if (task.getProgressCurrent() != null && task.getProgressCurrent() > 0) {
-            score += 20;
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
         }
+        return top;
+    }
 
-        // Penalize snoozed tasks
-        if (task.getSnoozedUntil() != null) {
-            score -= 100;
-        }
+    /**
+     * Calculate focus score for a task
+     * Higher score = better candidate for focus
+     */
+    public double calculateFocusScore(Task task) {
+        return calculateFocusScore(task, LocalDate.now());
+    }
 
-        return score;
+    /**
+     * Calculate focus score for a task relative to the given date
+     */
+    public double calculateFocusScore(Task task, LocalDate today) {
+        long deadlineDay = task.getDeadline() != null ? task.getDeadline().toEpochDay() : NO_DEADLINE;
+        return model.score(code(task.getPriority()), code(task.getComplexity()),
+                deadlineDay, scoringFlags(task), today.toEpochDay());
     }
 
     /**
-     * Get priority weight
+     * The weights scores are currently computed with
      */
-    private double getPriorityWeight(String priority) {
-        if (priority == null) return 1;
-        return switch (priority.toLowerCase()) {
-            case "high" -> 3;
-            case "medium" -> 2;
-            case "low" -> 1;
-            default -> 1;
-        };
+    public FocusScoringModel getModel() {
+        return model;
     }
 
     /**
-     * Get urgency weight based on deadline
+     * Score with the given weights from now on
      */
-    private double getUrgencyWeight(Task task) {
-        if (task.getDeadline() == null) {
-            return 0; // No deadline = not urgent
-        }
+    public void setModel(FocusScoringModel model) {
+        this.model = model;
+    }
 
-        LocalDate today = LocalDate.now();
-        long daysUntilDeadline = ChronoUnit.DAYS.between(today, task.getDeadline());
+    // Enum code, 0 for none
+    private static int code(CodedEnum value) {
+        return value != null ? value.getCode() : 0;
+    }
 
-        // Overdue tasks get highest urgency
-        if (daysUntilDeadline < 0) {
-            return 5;
+    private static int scoringFlags(Task task) {
+        int flags = 0;
+        if (task.getStatus() == TaskStatus.DOING) {
+            flags |= FocusScoringModel.STARTED;
         }
-
-        // Due today
-        if (daysUntilDeadline == 0) {
-            return 4;
+        if (task.getProgressCurrent() != null && task.getProgressCurrent() > 0) {
+            flags |= FocusScoringModel.PROGRESSED;
         }
-
-        // Due within 3 days
-        if (daysUntilDeadline <= 3) {
-            return 3;
+        if (task.getSnoozedUntil() != null) {
+            flags |= FocusScoringModel.SNOOZED;
         }
+        return flags;
+    }
 
-        // Due within a week
-        if (daysUntilDeadline <= 7) {
-            return 2;
+    /**
+     * Scoring columns for a list of tasks, index aligned with it
+     */
+    public static final class ScoringBatch {
+
+        private final int[] priorities;
+        private final int[] complexities;
+        private final long[] deadlineDays;
+        private final int[] flags;
+
+        private ScoringBatch(int size) {
+            this.priorities = new int[size];
+            this.complexities = new int[size];
+            this.deadlineDays = new long[size];
+            this.flags = new int[size];
         }
 
-        // Due within a month
-        if (daysUntilDeadline <= 30) {
-            return 1;
+        public int size() {
+            return priorities.length;
         }
-
-        // Far future deadlines
-        return 0.5;
     }
 
     /**
-     * Get complexity weight - prefer easier tasks for focus
+     * Calculate days until deadline for a task
      */
-    private double getComplexityWeight(String complexity) {
-        if (complexity == null) return 1;
-        return switch (complexity.toLowerCase()) {
-            case "easy" -> 2;    // Prefer easy tasks
-            case "medium" -> 1.5;
-            case "hard" -> 1;    // Don't penalize hard tasks too much
-            default -> 1;
-        };
+    public Integer calculateDaysUntilDeadline(Task task) {
+        return calculateDaysUntilDeadline(task, LocalDate.now());
     }
 
     /**
-     * Calculate days until deadline for a task
+     * Calculate days until deadline relative to the given date
      */
-    public Integer calculateDaysUntilDeadline(Task task) {
+    public Integer calculateDaysUntilDeadline(Task task, LocalDate today) {
         if (task.getDeadline() == null) {
             return null;
         }
 
-        LocalDate today = LocalDate.now();
-        return (int) ChronoUnit.DAYS.between(today, task.getDeadline());
+        return (int) (task.getDeadline().toEpochDay() - today.toEpochDay());
     }
 
     /**
      * Determine urgency level for a task
      */
     public String calculateUrgencyLevel(Task task) {
-        Integer daysUntil = calculateDaysUntilDeadline(task);
+        return calculateUrgencyLevel(task, LocalDate.now());
+    }
+
+    /**
+     * Determine urgency level relative to the given date
+     */
+    public String calculateUrgencyLevel(Task task, LocalDate today) {
+        Integer daysUntil = calculateDaysUntilDeadline(task, today);
         if (daysUntil == null) {
             return "none";
         }
@@ -189,9 +242,9 @@ public class FocusCalculator {
             context.append("Due soon - good time to tackle this. ");
         }
 
-        if ("easy".equals(task.getComplexity())) {
+        if (task.getComplexity() == TaskComplexity.EASY) {
             context.append("Should be quick to finish. ");
-        } else if ("hard".equals(task.getComplexity())) {
+        } else if (task.getComplexity() == TaskComplexity.HARD) {
             context.append("Take your time, just make progress. ");
         }
 
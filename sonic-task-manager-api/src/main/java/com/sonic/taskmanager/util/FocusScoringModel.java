@@ -0,0 +1,271 @@
+package com.sonic.taskmanager.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Focus scoring weights compiled into lookup tables, once per preferences change
+ * Immutable: FocusCalculator swaps the whole model, so a batch never sees half an update
+ *
+ * Score = priority weight * priority level (1-3) + urgency weight * urgency level (0.5-5)
+ *       + complexity weight * ease level (1-2) + status bonuses
+ *
+ * Points are kept on a 1/256 grid, so every sum is exact and a score never depends
+ * on the order its parts are added in; the database adds them in a different order
+ * (see FocusScoreStore) and must rank the same.
+ */
+public final class FocusScoringModel {
+
+    // Preference keys, all optional
+    public static final String PRIORITY_WEIGHT = "focus_priority_weight";
+    public static final String URGENCY_WEIGHT = "focus_urgency_weight";
+    public static final String COMPLEXITY_WEIGHT = "focus_complexity_weight";
+    public static final String DOING_BONUS = "focus_doing_bonus";
+    public static final String PROGRESS_BONUS = "focus_progress_bonus";
+    public static final String SNOOZED_PENALTY = "focus_snoozed_penalty";
+    // Last day (from today) of each urgency level: today, soon, this week, this month
+    public static final String URGENCY_BREAKPOINTS = "focus_urgency_breakpoints";
+
+    private static final Map<String, String> DEFAULT_SETTINGS = defaultSettings();
+
+    // Keeps the urgency table small; anything further out is "later" anyway
+    private static final int MAX_BREAKPOINT_DAYS = 3650;
+
+    // Keeps grid-aligned sums of a few points exact in a double
+    private static final double MAX_WEIGHT = 1_000_000;
+    private static final double POINT_GRID = 256;
+
+    // Urgency level per breakpoint, then overdue and later
+    private static final double[] URGENCY_LEVELS = {4, 3, 2, 1};
+    private static final double OVERDUE_LEVEL = 5;
+    private static final double LATER_LEVEL = 0.5;
+
+    // Status flags the flag points are indexed by
+    public static final int STARTED = 1;     // "doing": prefer tasks that are already started
+    public static final int PROGRESSED = 2;  // some progress recorded
+    public static final int SNOOZED = 4;     // penalize snoozed tasks
+
+    // Parts of the static (date-independent) score, by code
+    public static final int PRIORITY_PART = 1;
+    public static final int COMPLEXITY_PART = 2;
+    public static final int FLAGS_PART = 3;
+
+    static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private static final FocusScoringModel DEFAULTS = compile(Map.of());
+
+    // By TaskPriority code: none, high, medium, low
+    private final double[] priorityPoints;
+    // Prefer easier tasks, by TaskComplexity code: none, easy, medium, hard (not penalized much)
+    private final double[] complexityPoints;
+    // By days left, clamped to [-1, last breakpoint + 1] and shifted by one
+    private final double[] urgencyPoints;
+    private final int maxUrgencyDays;
+    // By flag combination
+    private final double[] flagPoints;
+
+    private FocusScoringModel(double[] priorityPoints, double[] complexityPoints,
+                              double[] urgencyPoints, double[] flagPoints) {
+        this.priorityPoints = priorityPoints;
+        this.complexityPoints = complexityPoints;
+        this.urgencyPoints = urgencyPoints;
+        this.maxUrgencyDays = urgencyPoints.length - 2;
+        this.flagPoints = flagPoints;
+    }
+
+    /**
+     * The built-in weights
+     */
+    public static FocusScoringModel defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Setting keys with their default values, in display order
+     */
+    public static Map<String, String> defaultSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put(PRIORITY_WEIGHT, "100");
+        settings.put(URGENCY_WEIGHT, "80");
+        settings.put(COMPLEXITY_WEIGHT, "30");
+        settings.put(DOING_BONUS, "50");
+        settings.put(PROGRESS_BONUS, "20");
+        settings.put(SNOOZED_PENALTY, "100");
+        settings.put(URGENCY_BREAKPOINTS, "0,3,7,30");
+        return settings;
+    }
+
+    public static boolean isSettingKey(String key) {
+        return DEFAULT_SETTINGS.containsKey(key);
+    }
+
+    /**
+     * Build a model from preference values; keys that are missing take their default
+     * Throws IllegalArgumentException naming the first invalid setting
+     */
+    public static FocusScoringModel compile(Map<String, String> settings) {
+        double priorityWeight = weight(settings, PRIORITY_WEIGHT);
+        double urgencyWeight = weight(settings, URGENCY_WEIGHT);
+        double complexityWeight = weight(settings, COMPLEXITY_WEIGHT);
+        double doingBonus = weight(settings, DOING_BONUS);
+        double progressBonus = weight(settings, PROGRESS_BONUS);
+        double snoozedPenalty = weight(settings, SNOOZED_PENALTY);
+        int[] breakpoints = breakpoints(settings);
+
+        double[] priorityPoints = onGrid(1 * priorityWeight, 3 * priorityWeight, 2 * priorityWeight, 1 * priorityWeight);
+        double[] complexityPoints = onGrid(1 * complexityWeight, 2 * complexityWeight, 1.5 * complexityWeight, 1 * complexityWeight);
+
+        int lastBreakpoint = breakpoints[breakpoints.length - 1];
+        double[] urgencyPoints = new double[lastBreakpoint + 3];
+        for (int index = 0; index < urgencyPoints.length; index++) {
+            int days = index - 1;
+            double level = LATER_LEVEL;
+            if (days < 0) {
+                level = OVERDUE_LEVEL;
+            } else {
+                for (int i = 0; i < breakpoints.length; i++) {
+                    if (days <= breakpoints[i]) {
+                        level = URGENCY_LEVELS[i];
+                        break;
+                    }
+                }
+            }
+            urgencyPoints[index] = onGrid(level * urgencyWeight)[0];
+        }
+
+        double[] flagPoints = new double[8];
+        for (int flags = 0; flags < flagPoints.length; flags++) {
+            double points = 0;
+            if ((flags & STARTED) != 0) points += doingBonus;
+            if ((flags & PROGRESSED) != 0) points += progressBonus;
+            if ((flags & SNOOZED) != 0) points -= snoozedPenalty;
+            flagPoints[flags] = onGrid(points)[0];
+        }
+
+        return new FocusScoringModel(priorityPoints, complexityPoints, urgencyPoints, flagPoints);
+    }
+
+    /**
+     * Score one task from its codes (0 for none), deadline epoch day and status flags
+     */
+    public double score(int priority, int complexity, long deadlineDay, int flags, long todayDay) {
+        double urgency = 0; // No deadline = not urgent
+        if (deadlineDay != NO_DEADLINE) {
+            long days = deadlineDay - todayDay;
+            urgency = urgencyPoints[(int) Math.max(-1, Math.min(maxUrgencyDays, days)) + 1];
+        }
+        return priorityPoints[priority] + urgency + complexityPoints[complexity] + flagPoints[flags];
+    }
+
+    /**
+     * Points of each static part by code (priority and complexity codes, flag combinations)
+     */
+    public Map<Integer, double[]> staticParts() {
+        Map<Integer, double[]> parts = new LinkedHashMap<>();
+        parts.put(PRIORITY_PART, priorityPoints.clone());
+        parts.put(COMPLEXITY_PART, complexityPoints.clone());
+        parts.put(FLAGS_PART, flagPoints.clone());
+        return parts;
+    }
+
+    /**
+     * Runs of days left with equal urgency points, overdue first
+     * Together they cover every deadline; tasks without one score no urgency points
+     */
+    public List<UrgencyBucket> urgencyBuckets() {
+        List<UrgencyBucket> buckets = new ArrayList<>();
+        int first = 0;
+        for (int index = 1; index <= urgencyPoints.length; index++) {
+            if (index == urgencyPoints.length || urgencyPoints[index] != urgencyPoints[first]) {
+                Integer firstDay = first == 0 ? null : first - 1;
+                Integer lastDay = index == urgencyPoints.length ? null : index - 2;
+                buckets.add(new UrgencyBucket(firstDay, lastDay, urgencyPoints[first]));
+                first = index;
+            }
+        }
+        return Collections.unmodifiableList(buckets);
+    }
+
+    /**
+     * Deadlines from firstDay to lastDay days from today (inclusive, null for open-ended) score these points
+     */
+    public static final class UrgencyBucket {
+
+        private final Integer firstDay;
+        private final Integer lastDay;
+        private final double points;
+
+        private UrgencyBucket(Integer firstDay, Integer lastDay, double points) {
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+            this.points = points;
+        }
+
+        public Integer getFirstDay() {
+            return firstDay;
+        }
+
+        public Integer getLastDay() {
+            return lastDay;
+        }
+
+        public double getPoints() {
+            return points;
+        }
+    }
+
+    private static double[] onGrid(double... points) {
+        double[] aligned = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            aligned[i] = Math.rint(points[i] * POINT_GRID) / POINT_GRID;
+        }
+        return aligned;
+    }
+
+    private static double weight(Map<String, String> settings, String key) {
+        String value = setting(settings, key);
+        double weight;
+        try {
+            weight = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Preference '" + key + "' must be a number, got '" + value + "'");
+        }
+        if (!Double.isFinite(weight) || weight < 0 || weight > MAX_WEIGHT) {
+            throw new IllegalArgumentException("Preference '" + key + "' must be between 0 and "
+                    + (long) MAX_WEIGHT + ", got '" + value + "'");
+        }
+        return weight;
+    }
+
+    private static int[] breakpoints(Map<String, String> settings) {
+        String value = setting(settings, URGENCY_BREAKPOINTS);
+        String[] parts = value.split(",");
+        if (parts.length != URGENCY_LEVELS.length) {
+            throw new IllegalArgumentException("Preference '" + URGENCY_BREAKPOINTS + "' must list "
+                    + URGENCY_LEVELS.length + " day counts, got '" + value + "'");
+        }
+        int[] breakpoints = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                breakpoints[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Preference '" + URGENCY_BREAKPOINTS
+                        + "' must list whole day counts, got '" + value + "'");
+            }
+            int previous = i > 0 ? breakpoints[i - 1] : -1;
+            if (breakpoints[i] <= previous || breakpoints[i] > MAX_BREAKPOINT_DAYS) {
+                throw new IllegalArgumentException("Preference '" + URGENCY_BREAKPOINTS
+                        + "' must be increasing day counts from 0 to " + MAX_BREAKPOINT_DAYS + ", got '" + value + "'");
+            }
+        }
+        return breakpoints;
+    }
+
+    private static String setting(Map<String, String> settings, String key) {
+        String value = settings.get(key);
+        return value != null && !value.isBlank() ? value.trim() : DEFAULT_SETTINGS.get(key);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sonic.taskmanager.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SearchUtils {
+
+    /**
+     * Whether the search box holds anything; blank text means no search at all
+     */
+    public static boolean hasSearchText(String query) {
+        return query != null && !query.isBlank();
+    }
+
+    /**
+     * Turn free text from the search box into an FTS5 MATCH expression
+     * Every word becomes a quoted prefix term, all terms must match
+     * Returns null when the text has no searchable words; if hasSearchText is true,
+     * such a search (punctuation only) matches no task
+     */
+    public static String toMatchExpression(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        query.codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                current.appendCodePoint(cp);
+            } else if (!current.isEmpty()) {
+                terms.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (!current.isEmpty()) {
+            terms.add(current.toString());
+        }
+
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder expression = new StringBuilder();
+        for (String term : terms) {
+            if (!expression.isEmpty()) {
+                expression.append(' ');
+            }
+            // Terms only contain letters and digits, so quoting is always safe
+            expression.append('"').append(term).append("\"*");
+        }
+        return expression.toString();
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -77,6 +78,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handle request bodies that cannot be read, such as an unknown status or priority value
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<BaseResponse> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        logger.warn("Unreadable request body: {}", ex.getMessage());
+
+        // Enum values rejected by their @JsonCreator carry a readable message
+        Throwable cause = ex.getMostSpecificCause();
+        BaseResponse response = new BaseResponse();
+        response.setSuccess(false);
+        response.setError("Invalid request");
+        response.setMessage(cause instanceof IllegalArgumentException
+            ? cause.getMessage()
+            : "Malformed request body");
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     /**
      * Handle database errors
      */
@@ -0,0 +1,34 @@
+package com.sonic.taskmanager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * A throwaway SQLite file per test class, so tests never touch ./data/database.db.
+ * DataInitializer seeds it with the sample tasks on startup like any empty database.
+ */
+public final class SqliteTestDatabase {
+
+    private SqliteTestDatabase() {
+    }
+
+    /**
+     * Point the context at a new empty file; returns its JDBC URL, to prepare it before the context starts
+     */
+    public static String register(DynamicPropertyRegistry registry) {
+        Path dir;
+        try {
+            dir = Files.createTempDirectory("sonic-test-db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        dir.toFile().deleteOnExit();
+        String url = "jdbc:sqlite:" + dir.resolve("database.db");
+        registry.add("spring.datasource.url", () -> url);
+        return url;
+    }
+}
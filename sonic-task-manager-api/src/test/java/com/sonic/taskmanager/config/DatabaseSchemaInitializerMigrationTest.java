@@ -0,0 +1,76 @@
+package com.sonic.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.sonic.taskmanager.SqliteTestDatabase;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+
+/**
+ * Starts on a database from before the integer enum codes, with one task whose
+ * type and priority no enum knows: the known values are converted, the unknown
+ * ones cleared but kept in the backup table with their task id.
+ */
+@SpringBootTest
+class DatabaseSchemaInitializerMigrationTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws SQLException {
+        String url = SqliteTestDatabase.register(registry);
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tasks (id integer PRIMARY KEY, title varchar(255) NOT NULL, " +
+                "type varchar(255), priority varchar(255), complexity varchar(255), status varchar(255), " +
+                "parent_id bigint)");
+            statement.execute("CREATE INDEX idx_tasks_parent_status ON tasks (parent_id, status)");
+            statement.execute("INSERT INTO tasks (id, title, type, priority, complexity, status) VALUES " +
+                "(1, 'Known values', 'deadline', ' High', 'easy', 'todo'), " +
+                "(2, 'Unknown values', 'errand', 'urgent', NULL, 'done')");
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void convertsKnownValuesAndBacksUpUnknownOnes() {
+        List<String> types = jdbcTemplate.query("PRAGMA table_info(tasks)", (rs, row) ->
+            List.of("type", "priority", "complexity", "status").contains(rs.getString("name")) ? rs.getString("type") : null)
+            .stream().filter(type -> type != null).toList();
+        assertThat(types).hasSize(4).allMatch("integer"::equalsIgnoreCase);
+
+        Map<String, Object> known = jdbcTemplate.queryForMap("SELECT type, priority, status FROM tasks WHERE id = 1");
+        assertThat(known.get("type")).isEqualTo(TaskType.DEADLINE.getCode());
+        assertThat(known.get("priority")).isEqualTo(TaskPriority.HIGH.getCode());
+        assertThat(known.get("status")).isEqualTo(TaskStatus.TODO.getCode());
+
+        Map<String, Object> unknown = jdbcTemplate.queryForMap("SELECT type, priority, status FROM tasks WHERE id = 2");
+        assertThat(unknown.get("type")).isNull();
+        assertThat(unknown.get("priority")).isNull();
+        assertThat(unknown.get("status")).isEqualTo(TaskStatus.DONE.getCode());
+
+        List<String> backup = jdbcTemplate.query(
+            "SELECT task_id, column_name, old_value FROM tasks_enum_migration_backup ORDER BY column_name",
+            (rs, row) -> rs.getLong("task_id") + " " + rs.getString("column_name") + " " + rs.getString("old_value"));
+        assertThat(backup).containsExactly("2 priority urgent", "2 type errand");
+
+        Integer index = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name = 'idx_tasks_parent_status'", Integer.class);
+        assertThat(index).isEqualTo(1);
+    }
+}
@@ -0,0 +1,202 @@
+package com.sonic.taskmanager.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sonic.taskmanager.SqliteTestDatabase;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+
+/**
+ * Runs every TaskRepository query, captures the SQL Hibernate sends and checks its
+ * EXPLAIN QUERY PLAN: no step may scan the tasks table, only index searches.
+ * Queries that read the whole table by design are listed in WHOLE_TABLE with the reason.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sonic.taskmanager.repository.RecordingStatementInspector",
+    // Every call has to reach SQLite to be recorded
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class TaskRepositoryQueryPlanTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    // Queries allowed to scan tasks, and why
+    private static final Map<String, String> WHOLE_TABLE = Map.of(
+        "findTopFocusWithoutDeadline", "walks idx_tasks_open_focus_score in score order and stops at the limit",
+        "findTopFocusDueBetween", "walks idx_tasks_open_focus_score in score order and stops at the limit",
+        "findByTitle", "DataInitializer only, on an empty database",
+        "aggregateTaskStatistics", "all Studio totals in one pass, cached between writes",
+        "repairSubtaskCounters", "nightly repair over every row");
+
+    // "FROM tasks t1_0", "tasks c JOIN", "UPDATE tasks SET": the names tasks goes by in one statement
+    private static final Pattern TASKS_ALIAS = Pattern.compile(
+        "\\btasks(?:\\s+(?:AS\\s+)?(?!(?:SET|WHERE|JOIN|ON|INDEXED|LEFT|INNER|ORDER|GROUP|LIMIT)\\b)([A-Za-z_]\\w*))?",
+        Pattern.CASE_INSENSITIVE);
+    private static final Pattern SCAN = Pattern.compile("^SCAN (\\w+)");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        SqliteTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> queries() {
+        List<Long> ids = List.of(1L, 2L);
+        return Stream.of(
+            query("findActiveTasks", r -> r.findActiveTasks(NOW)),
+            query("findOpenScoringRows", r -> r.findOpenScoringRows()),
+            query("findTopFocusWithoutDeadline", r -> r.findTopFocusWithoutDeadline(NOW, 3, 10)),
+            query("findTopFocusDueBetween", r -> r.findTopFocusDueBetween(TODAY, TODAY.plusDays(1), NOW, null, 10)),
+            query("findScoringRowsByIdIn", r -> r.findScoringRowsByIdIn(ids)),
+            query("findByStatus", r -> r.findByStatus(TaskStatus.TODO)),
+            query("findByType", r -> r.findByType(TaskType.HABIT)),
+            query("findByTitle", r -> r.findByTitle("Sample")),
+            query("findByParentIdIsNull", r -> r.findByParentIdIsNull()),
+            query("findByParentId", r -> r.findByParentId(1L)),
+            query("findByParentIdIn", r -> r.findByParentIdIn(ids)),
+            query("findQuickWinTasks", r -> r.findQuickWinTasks()),
+            query("findActiveReminders", r -> r.findActiveReminders(NOW, NOW.minusHours(2))),
+            query("findTasksCompletedToday", r -> r.findTasksCompletedToday(TODAY)),
+            query("findByPriorityAndStatus", r -> r.findByPriorityAndStatus(TaskPriority.HIGH, TaskStatus.TODO)),
+            query("findTasksForFocusCalculation", r -> r.findTasksForFocusCalculation(TODAY, TODAY.plusDays(1))),
+            query("countTasksByStatus", r -> r.countTasksByStatus(TaskStatus.DONE)),
+            query("findHabitTasks", r -> r.findHabitTasks()),
+            query("findAllMainTasksPaginated", r -> r.findAllMainTasksPaginated(TODAY, TODAY.plusDays(1), PageRequest.of(0, 20))),
+            query("findTasksWithFilter", r -> r.findTasksWithFilter(TaskStatus.TODO, null, null, null, null, null,
+                TODAY, TODAY.plusDays(1), PageRequest.of(0, 20))),
+            query("findMainTasksAfter", r -> r.findMainTasksAfter(TODAY, TODAY.plusDays(1), 2, TaskPriority.MEDIUM,
+                NOW, 5L, Limit.of(20))),
+            query("findTasksWithFilterAfter", r -> r.findTasksWithFilterAfter(TaskStatus.TODO, null, null, null, null, null,
+                TODAY, TODAY.plusDays(1), 2, TaskPriority.MEDIUM, NOW, 5L, Limit.of(20))),
+            query("countByParentIdIsNull", r -> r.countByParentIdIsNull()),
+            query("countTasksWithFilter", r -> r.countTasksWithFilter(null, TaskPriority.HIGH, null, null, null, null)),
+            query("searchTasksWithFilter", r -> r.searchTasksWithFilter("\"review\"*", null, null, null, null, null, null,
+                PageRequest.of(0, 20))),
+            query("countMainTasksByStatus", r -> r.countMainTasksByStatus(TaskStatus.TODO)),
+            query("countMainTasksByPriority", r -> r.countMainTasksByPriority(TaskPriority.HIGH)),
+            query("countMainTasksByType", r -> r.countMainTasksByType(TaskType.DEADLINE)),
+            query("aggregateTaskStatistics", r -> r.aggregateTaskStatistics(TODAY, TODAY.plusDays(1))),
+            query("findByIdIn", r -> r.findByIdIn(ids)),
+            query("completeSubtrees", r -> r.completeSubtrees(ids, NOW)),
+            query("snoozeByIds", r -> r.snoozeByIds(ids, NOW.plusDays(1), NOW)),
+            query("updateStatusByIds", r -> r.updateStatusByIds(ids, TaskStatus.DOING, NOW)),
+            query("updatePriorityByIds", r -> r.updatePriorityByIds(ids, TaskPriority.LOW, NOW)),
+            query("updateComplexityByIds", r -> r.updateComplexityByIds(ids, TaskComplexity.HARD, NOW)),
+            query("updateDeadlineByIds", r -> r.updateDeadlineByIds(ids, TODAY, NOW)),
+            query("recountSubtasks", r -> r.recountSubtasks(ids)),
+            query("repairSubtaskCounters", r -> r.repairSubtaskCounters()),
+            query("findDescendants", r -> r.findDescendants(1L)),
+            query("findSelfAndAncestors", r -> r.findSelfAndAncestors(2L)),
+            query("deleteSubtrees", r -> r.deleteSubtrees(ids)));
+    }
+
+    private static Arguments query(String name, Consumer<TaskRepository> call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void doesNotScanTasks(String name, Consumer<TaskRepository> call) throws SQLException {
+        List<String> statements = record(call);
+        assertThat(statements).as("SQL sent by %s", name).isNotEmpty();
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : statements) {
+            Set<String> names = tableNames(sql);
+            for (String step : explain(sql)) {
+                Matcher scan = SCAN.matcher(step);
+                if (scan.find() && names.contains(scan.group(1).toLowerCase(Locale.ROOT))) {
+                    scans.add(step + "  <-  " + sql);
+                }
+            }
+        }
+
+        if (WHOLE_TABLE.containsKey(name)) {
+            assertThat(scans).as("%s is listed as a whole-table query but no longer scans; drop it from WHOLE_TABLE", name)
+                .isNotEmpty();
+        } else {
+            assertThat(scans).as("%s scans the tasks table", name).isEmpty();
+        }
+    }
+
+    // Runs the call in a transaction that is rolled back, so the bulk updates leave the seed data alone
+    private List<String> record(Consumer<TaskRepository> call) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            RecordingStatementInspector.start();
+            try {
+                call.accept(repository);
+            } catch (RuntimeException e) {
+                RecordingStatementInspector.stop();
+                throw e;
+            }
+            return RecordingStatementInspector.stop();
+        });
+    }
+
+    // Parameters stay unbound, which SQLite plans as NULL
+    private List<String> explain(String sql) throws SQLException {
+        List<String> steps = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (plan.next()) {
+                steps.add(plan.getString("detail"));
+            }
+        }
+        return steps;
+    }
+
+    private static Set<String> tableNames(String sql) {
+        Set<String> names = new HashSet<>();
+        Matcher matcher = TASKS_ALIAS.matcher(sql);
+        while (matcher.find()) {
+            names.add("tasks");
+            if (matcher.group(1) != null) {
+                names.add(matcher.group(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,167 @@
+package com.sonic.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sonic.taskmanager.SqliteTestDatabase;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.repository.FocusScoreStore;
+import com.sonic.taskmanager.repository.TaskRepository;
+import com.sonic.taskmanager.util.FocusCalculator;
+import com.sonic.taskmanager.util.FocusScoringModel;
+
+/**
+ * Random tasks under random focus weights: FocusRankingService, which ranks by the stored
+ * scores in SQL, must return the same ids in the same order as FocusCalculator.selectTop
+ * over the in-memory scores. Few distinct values, so ties (broken by id) are common.
+ * The repetition number is the seed.
+ */
+@SpringBootTest
+class FocusRankingServicePropertyTest {
+
+    private static final int TASKS = 300;
+    private static final int[] LIMITS = {1, WorkspaceService.NEXT_UP_LIMIT + 1, 40};
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        SqliteTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private FocusRankingService focusRankingService;
+
+    @Autowired
+    private FocusCalculator focusCalculator;
+
+    @Autowired
+    private FocusScoreStore focusScoreStore;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void restoreDefaults() {
+        applyModel(FocusScoringModel.defaults());
+    }
+
+    @RepeatedTest(25)
+    void storedScoreRankingMatchesFocusCalculator(RepetitionInfo repetition) {
+        long seed = repetition.getCurrentRepetition();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        applyModel(FocusScoringModel.compile(randomWeights(random)));
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            taskRepository.saveAll(randomTasks(random, now));
+        });
+
+        // What the workspace ranks in memory: open main tasks outside their snooze window, by id
+        List<Task> mainTasks = taskRepository.findAll().stream()
+            .filter(task -> task.getParentId() == null && task.getStatus() != TaskStatus.DONE)
+            .filter(task -> task.getSnoozedUntil() == null || !task.getSnoozedUntil().isAfter(now))
+            .sorted(Comparator.comparing(Task::getId))
+            .toList();
+        double[] scores = focusCalculator.scoreAll(mainTasks, now.toLocalDate());
+
+        for (int limit : LIMITS) {
+            for (boolean excludeReminders : new boolean[] {false, true}) {
+                int[] top = focusCalculator.selectTop(scores, limit,
+                    i -> !excludeReminders || mainTasks.get(i).getType() != TaskType.REMINDER);
+                List<Long> expected = new ArrayList<>();
+                for (int index : top) {
+                    expected.add(mainTasks.get(index).getId());
+                }
+
+                List<Long> ranked = transactionTemplate.execute(status ->
+                    focusRankingService.findTopFocusTaskIds(limit, excludeReminders, now));
+                assertThat(ranked)
+                    .as("seed %d, limit %d, excludeReminders %s", seed, limit, excludeReminders)
+                    .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    // Both sides switch together, as FocusScoringModelService does it
+    private void applyModel(FocusScoringModel model) {
+        focusScoreStore.applyModel(model);
+        focusCalculator.setModel(model);
+    }
+
+    private static Map<String, String> randomWeights(Random random) {
+        int first = random.nextInt(3);
+        int second = first + 1 + random.nextInt(5);
+        int third = second + 1 + random.nextInt(10);
+        int fourth = third + 1 + random.nextInt(40);
+        return Map.of(
+            FocusScoringModel.PRIORITY_WEIGHT, weight(random),
+            FocusScoringModel.URGENCY_WEIGHT, weight(random),
+            FocusScoringModel.COMPLEXITY_WEIGHT, weight(random),
+            FocusScoringModel.DOING_BONUS, weight(random),
+            FocusScoringModel.PROGRESS_BONUS, weight(random),
+            FocusScoringModel.SNOOZED_PENALTY, weight(random),
+            FocusScoringModel.URGENCY_BREAKPOINTS, first + "," + second + "," + third + "," + fourth);
+    }
+
+    // Whole numbers half the time, so equal scores come up; fractions exercise the point grid
+    private static String weight(Random random) {
+        return random.nextBoolean()
+            ? Integer.toString(random.nextInt(201))
+            : Double.toString(random.nextDouble() * 500);
+    }
+
+    private static List<Task> randomTasks(Random random, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setType(pick(random, TaskType.values()));
+            task.setPriority(pick(random, TaskPriority.values()));
+            task.setComplexity(pick(random, TaskComplexity.values()));
+            task.setStatus(random.nextInt(5) == 0 ? TaskStatus.DONE
+                : random.nextBoolean() ? TaskStatus.TODO : TaskStatus.DOING);
+            task.setProgressCurrent(random.nextInt(3) == 0 ? random.nextInt(4) : 0);
+            task.setProgressTotal(3);
+            if (random.nextInt(4) != 0) {
+                task.setDeadline(today.plusDays(random.nextInt(90) - 20));
+            }
+            switch (random.nextInt(6)) {
+                case 0 -> task.setSnoozedUntil(now.plusHours(1 + random.nextInt(48)));
+                case 1 -> task.setSnoozedUntil(now.minusHours(1 + random.nextInt(48)));
+                default -> { }
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    // null (not set) as often as each constant
+    private static <T> T pick(Random random, T[] values) {
+        int index = random.nextInt(values.length + 1);
+        return index < values.length ? values[index] : null;
+    }
+}
@@ -0,0 +1,175 @@
+package com.sonic.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.sonic.taskmanager.SqliteTestDatabase;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskComplexity;
+import com.sonic.taskmanager.model.TaskPriority;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.TaskType;
+import com.sonic.taskmanager.model.dto.WorkspaceDto;
+import com.sonic.taskmanager.model.request.BulkUpdateRequest;
+import com.sonic.taskmanager.model.request.CreateTaskRequest;
+import com.sonic.taskmanager.repository.TaskRepository;
+
+/**
+ * Random writes through TaskService, one at a time: after each one the patched
+ * LiveWorkspace snapshot must equal the workspace recomputed from the database.
+ * The repetition number is the seed; each repetition continues on the previous tree.
+ */
+@SpringBootTest
+class LiveWorkspaceConsistencyTest {
+
+    private static final int WRITES = 60;
+    private static final String[] BULK_OPERATIONS = {
+        "complete", "snooze", "update_status", "update_priority", "update_complexity", "update_deadline", "delete"
+    };
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        SqliteTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private LiveWorkspace liveWorkspace;
+
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @RepeatedTest(5)
+    void snapshotMatchesFullRecomputeAfterEveryWrite(RepetitionInfo repetition) {
+        long seed = repetition.getCurrentRepetition();
+        Random random = new Random(seed);
+        assertSameWorkspace(seed, 0, "initial");
+
+        for (int step = 1; step <= WRITES; step++) {
+            String write = applyRandomWrite(random);
+            assertSameWorkspace(seed, step, write);
+        }
+    }
+
+    private void assertSameWorkspace(long seed, int step, String write) {
+        WorkspaceDto live = liveWorkspace.snapshot();
+        WorkspaceDto full = workspaceService.calculateTodaysWorkspace();
+        String context = "seed " + seed + ", step " + step + " (" + write + ")";
+
+        assertThat(idOf(live.getFocusTask())).as(context + ": focus task").isEqualTo(idOf(full.getFocusTask()));
+        assertThat(ids(live.getNextUpStack())).as(context + ": next up").isEqualTo(ids(full.getNextUpStack()));
+        assertThat(ids(live.getQuickWins())).as(context + ": quick wins").isEqualTo(ids(full.getQuickWins()));
+        assertThat(ids(live.getActiveReminders())).as(context + ": reminders")
+            .isEqualTo(ids(full.getActiveReminders()));
+        assertThat(live.getDailyMood()).as(context + ": mood").isEqualTo(full.getDailyMood());
+        assertThat(live.getShowSections()).as(context + ": sections")
+            .usingRecursiveComparison().isEqualTo(full.getShowSections());
+        assertThat(live.getWorkloadAssessment()).as(context + ": workload")
+            .usingRecursiveComparison().isEqualTo(full.getWorkloadAssessment());
+    }
+
+    private String applyRandomWrite(Random random) {
+        List<Task> tasks = taskRepository.findAll();
+        if (tasks.isEmpty()) {
+            taskService.createTask(randomRequest(random, null));
+            return "create";
+        }
+        Task target = tasks.get(random.nextInt(tasks.size()));
+
+        switch (random.nextInt(8)) {
+            case 0 -> {
+                taskService.createTask(randomRequest(random, null));
+                return "create";
+            }
+            case 1 -> {
+                taskService.createTask(randomRequest(random, target.getId()));
+                return "create subtask of " + target.getId();
+            }
+            case 2 -> {
+                taskService.updateTask(target.getId(), randomRequest(random, target.getParentId()));
+                return "update " + target.getId();
+            }
+            case 3 -> {
+                taskService.completeTask(target.getId());
+                return "complete " + target.getId();
+            }
+            case 4 -> {
+                // Past snoozes put the task straight back into the workspace
+                taskService.snoozeTask(target.getId(), LocalDateTime.now().plusHours(random.nextInt(72) - 24));
+                return "snooze " + target.getId();
+            }
+            case 5 -> {
+                taskService.deleteTask(target.getId());
+                return "delete " + target.getId();
+            }
+            default -> {
+                BulkUpdateRequest request = randomBulkRequest(random, tasks);
+                taskService.bulkUpdateTasks(request);
+                return "bulk " + request.getOperation() + " " + request.getTaskIds();
+            }
+        }
+    }
+
+    private static CreateTaskRequest randomRequest(Random random, Long parentId) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("Task " + random.nextInt(1000));
+        request.setParentId(parentId);
+        request.setType(pick(random, TaskType.values()));
+        request.setPriority(pick(random, TaskPriority.values()));
+        request.setComplexity(pick(random, TaskComplexity.values()));
+        if (random.nextInt(4) != 0) {
+            request.setDeadline(randomDay(random));
+        }
+        return request;
+    }
+
+    private static BulkUpdateRequest randomBulkRequest(Random random, List<Task> tasks) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            ids.add(tasks.get(random.nextInt(tasks.size())).getId());
+        }
+        BulkUpdateRequest request = new BulkUpdateRequest();
+        request.setTaskIds(ids.stream().distinct().toList());
+        request.setOperation(BULK_OPERATIONS[random.nextInt(BULK_OPERATIONS.length)]);
+        request.setSnoozeDays(1 + random.nextInt(3));
+        request.setNewStatus(pick(random, new TaskStatus[] {TaskStatus.TODO, TaskStatus.DOING, TaskStatus.DONE}));
+        request.setNewPriority(pick(random, TaskPriority.values()));
+        request.setNewComplexity(pick(random, TaskComplexity.values()));
+        request.setNewDeadline(random.nextBoolean() ? randomDay(random) : null);
+        return request;
+    }
+
+    // Overdue through next month, today and tomorrow included
+    private static LocalDate randomDay(Random random) {
+        return LocalDate.now().plusDays(random.nextInt(40) - 7);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Long idOf(Task task) {
+        return task != null ? task.getId() : null;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sonic.taskmanager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.sonic.taskmanager.SqliteTestDatabase;
+import com.sonic.taskmanager.model.Task;
+import com.sonic.taskmanager.model.TaskStatus;
+import com.sonic.taskmanager.model.dto.TaskDto;
+import com.sonic.taskmanager.model.request.BulkUpdateRequest;
+import com.sonic.taskmanager.model.request.CreateTaskRequest;
+import com.sonic.taskmanager.repository.TaskRepository;
+
+/**
+ * Every write path that moves a parent's subtask counters must carry them into
+ * progress_current / progress_total and the parent's status, single and bulk alike.
+ * Each test works on its own parent with two fresh subtasks.
+ */
+@SpringBootTest
+class SubtaskProgressTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        SqliteTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void completeTaskCompletesParentWithLastSubtask() {
+        Task parent = createParent();
+        List<Long> subtasks = createSubtasks(parent);
+
+        taskService.completeTask(subtasks.get(0));
+        assertProgress(parent, 1, 2, TaskStatus.DOING);
+
+        taskService.completeTask(subtasks.get(1));
+        assertProgress(parent, 2, 2, TaskStatus.DONE);
+    }
+
+    @Test
+    void bulkCompleteCompletesParent() {
+        Task parent = createParent();
+        List<Long> subtasks = createSubtasks(parent);
+
+        taskService.bulkUpdateTasks(bulk("complete", subtasks));
+        assertProgress(parent, 2, 2, TaskStatus.DONE);
+    }
+
+    @Test
+    void bulkStatusUpdateMovesParentProgress() {
+        Task parent = createParent();
+        List<Long> subtasks = createSubtasks(parent);
+
+        taskService.bulkUpdateTasks(statusUpdate(subtasks.subList(0, 1), TaskStatus.DONE));
+        assertProgress(parent, 1, 2, TaskStatus.DOING);
+
+        taskService.bulkUpdateTasks(statusUpdate(subtasks.subList(1, 2), TaskStatus.DONE));
+        assertProgress(parent, 2, 2, TaskStatus.DONE);
+    }
+
+    @Test
+    void bulkStatusUpdateReopeningSubtaskLowersParentProgress() {
+        Task parent = createParent();
+        List<Long> subtasks = createSubtasks(parent);
+        taskService.completeTask(subtasks.get(0));
+
+        taskService.bulkUpdateTasks(statusUpdate(subtasks.subList(0, 1), TaskStatus.TODO));
+        assertProgress(parent, 0, 2, TaskStatus.DOING);
+    }
+
+    @Test
+    void bulkSnoozeOfDoneSubtaskLowersParentProgress() {
+        Task parent = createParent();
+        List<Long> subtasks = createSubtasks(parent);
+        taskService.completeTask(subtasks.get(0));
+
+        BulkUpdateRequest snooze = bulk("snooze", subtasks.subList(0, 1));
+        snooze.setSnoozeDays(1);
+        taskService.bulkUpdateTasks(snooze);
+        assertProgress(parent, 0, 2, TaskStatus.DOING);
+    }
+
+    private void assertProgress(Task parent, int done, int total, TaskStatus status) {
+        Task reloaded = taskRepository.findById(parent.getId()).orElseThrow();
+        assertThat(reloaded.getSubtaskDoneCount()).as("subtask_done_count").isEqualTo(done);
+        assertThat(reloaded.getSubtaskCount()).as("subtask_count").isEqualTo(total);
+        assertThat(reloaded.getProgressCurrent()).as("progress_current").isEqualTo(done);
+        assertThat(reloaded.getProgressTotal()).as("progress_total").isEqualTo(total);
+        assertThat(reloaded.getStatus()).as("status").isEqualTo(status);
+
+        // The DTO reports progress twice; both must tell the same story
+        TaskDto dto = taskService.convertToDto(reloaded);
+        assertThat(dto.getProgressCurrent() * 100 / dto.getProgressTotal()).as("DTO progress vs progressPercentage")
+            .isEqualTo(dto.getProgressPercentage());
+    }
+
+    private Task createParent() {
+        return taskService.createTask(request("Parent", null));
+    }
+
+    private List<Long> createSubtasks(Task parent) {
+        return List.of(
+            taskService.createTask(request("First", parent.getId())).getId(),
+            taskService.createTask(request("Second", parent.getId())).getId());
+    }
+
+    private static CreateTaskRequest request(String title, Long parentId) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(title);
+        request.setParentId(parentId);
+        return request;
+    }
+
+    private static BulkUpdateRequest statusUpdate(List<Long> ids, TaskStatus status) {
+        BulkUpdateRequest request = bulk("update_status", ids);
+        request.setNewStatus(status);
+        return request;
+    }
+
+    private static BulkUpdateRequest bulk(String operation, List<Long> ids) {
+        BulkUpdateRequest request = new BulkUpdateRequest();
+        request.setOperation(operation);
+        request.setTaskIds(ids);
+        return request;
+    }
+}